@@ -0,0 +1,54 @@
+/*********************** GNU General Public License 3.0 ***********************\
+|                                                                              |
+|  Copyright (C) 2024 Kevin Matthes                                            |
+|                                                                              |
+|  This program is free software: you can redistribute it and/or modify        |
+|  it under the terms of the GNU General Public License as published by        |
+|  the Free Software Foundation, either version 3 of the License, or           |
+|  (at your option) any later version.                                         |
+|                                                                              |
+|  This program is distributed in the hope that it will be useful,             |
+|  but WITHOUT ANY WARRANTY; without even the implied warranty of              |
+|  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               |
+|  GNU General Public License for more details.                                |
+|                                                                              |
+|  You should have received a copy of the GNU General Public License           |
+|  along with this program.  If not, see <https://www.gnu.org/licenses/>.      |
+|                                                                              |
+\******************************************************************************/
+
+package io.github.kevinmatthes.yal.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The main class to run the benchmarks.
+ *
+ * @author Kevin Matthes
+ * @version 0.1.0
+ */
+public class Benchmarks {
+    /**
+     * The main method. Any JMH command line option is supported. In addition to
+     * the throughput, the allocation rate is always reported.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param args
+     *            The command line arguments.
+     * @throws CommandLineOptionException
+     *             if the command line arguments are invalid.
+     * @throws RunnerException
+     *             if the benchmarks could not be run.
+     */
+    public static void main(final String[] args)
+            throws CommandLineOptionException, RunnerException {
+        new Runner(new OptionsBuilder().parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class).build()).run();
+    }
+}
@@ -0,0 +1,126 @@
+/*********************** GNU General Public License 3.0 ***********************\
+|                                                                              |
+|  Copyright (C) 2024 Kevin Matthes                                            |
+|                                                                              |
+|  This program is free software: you can redistribute it and/or modify        |
+|  it under the terms of the GNU General Public License as published by        |
+|  the Free Software Foundation, either version 3 of the License, or           |
+|  (at your option) any later version.                                         |
+|                                                                              |
+|  This program is distributed in the hope that it will be useful,             |
+|  but WITHOUT ANY WARRANTY; without even the implied warranty of              |
+|  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               |
+|  GNU General Public License for more details.                                |
+|                                                                              |
+|  You should have received a copy of the GNU General Public License           |
+|  along with this program.  If not, see <https://www.gnu.org/licenses/>.      |
+|                                                                              |
+\******************************************************************************/
+
+package io.github.kevinmatthes.yal.benchmarks;
+
+import io.github.kevinmatthes.yal.Integral;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The benchmarks for YAL's default integer type.
+ *
+ * @author Kevin Matthes
+ * @version 0.1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class IntegralBenchmark {
+    /**
+     * The buffer to describe into.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private StringBuilder buffer;
+
+    /**
+     * A mutable instance to describe.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private Integral mutable;
+
+    /**
+     * The value of the literals to describe.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private int value;
+
+    /**
+     * Prepare the instances to describe.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Setup
+    public void setup() {
+        this.buffer = new StringBuilder();
+        this.mutable = new Integral("foo", false, 123456);
+        this.value = 42;
+    }
+
+    /**
+     * Measure the summary of a fresh literal.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The summary.
+     */
+    @Benchmark
+    public String describe() {
+        return new Integral(null, true, this.value).describe();
+    }
+
+    /**
+     * Measure the summary of a pooled literal into a reused buffer.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The buffer.
+     */
+    @Benchmark
+    public StringBuilder describeLiteralTo() {
+        this.buffer.setLength(0);
+
+        return Integral.literal(this.value).describeTo(this.buffer);
+    }
+
+    /**
+     * Measure the summary of a mutable instance into a reused buffer.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The buffer.
+     */
+    @Benchmark
+    public StringBuilder describeMutableTo() {
+        this.buffer.setLength(0);
+
+        return this.mutable.describeTo(this.buffer);
+    }
+}
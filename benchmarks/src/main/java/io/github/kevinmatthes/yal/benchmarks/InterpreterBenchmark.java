@@ -0,0 +1,136 @@
+/*********************** GNU General Public License 3.0 ***********************\
+|                                                                              |
+|  Copyright (C) 2024 Kevin Matthes                                            |
+|                                                                              |
+|  This program is free software: you can redistribute it and/or modify        |
+|  it under the terms of the GNU General Public License as published by        |
+|  the Free Software Foundation, either version 3 of the License, or           |
+|  (at your option) any later version.                                         |
+|                                                                              |
+|  This program is distributed in the hope that it will be useful,             |
+|  but WITHOUT ANY WARRANTY; without even the implied warranty of              |
+|  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               |
+|  GNU General Public License for more details.                                |
+|                                                                              |
+|  You should have received a copy of the GNU General Public License           |
+|  along with this program.  If not, see <https://www.gnu.org/licenses/>.      |
+|                                                                              |
+\******************************************************************************/
+
+package io.github.kevinmatthes.yal.benchmarks;
+
+import io.github.kevinmatthes.yal.Interpreter;
+import io.github.kevinmatthes.yal.Program;
+import io.github.kevinmatthes.yal.ProgramCompiler;
+import io.github.kevinmatthes.yal.ProgramOptimiser;
+
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The benchmarks for YAL's interpreter.
+ *
+ * @author Kevin Matthes
+ * @version 0.1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class InterpreterBenchmark {
+    /**
+     * The source code to process.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private String code;
+
+    /**
+     * The compiled source code.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private Program program;
+
+    /**
+     * The compiled source code with its output precomputed.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private Program folded;
+
+    /**
+     * The interpreter to execute the source code with.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private Interpreter interpreter;
+
+    /**
+     * Prepare a script consisting of description statements.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Setup
+    public void setup() {
+        this.code = new Workload(0).generate(100_000);
+        this.program = new ProgramCompiler().compile(this.code);
+        this.folded = new ProgramOptimiser().optimise(this.program);
+        this.interpreter = new Interpreter(Writer.nullWriter(),
+                Writer.nullWriter());
+    }
+
+    /**
+     * Measure executing the script.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return Whether the script could be executed successfully.
+     */
+    @Benchmark
+    public boolean run() {
+        return this.interpreter.run(this.code);
+    }
+
+    /**
+     * Measure executing the compiled script.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return Whether the script could be executed successfully.
+     */
+    @Benchmark
+    public boolean runCompiled() {
+        return this.interpreter.run(this.program);
+    }
+
+    /**
+     * Measure executing the compiled script with its output precomputed.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return Whether the script could be executed successfully.
+     */
+    @Benchmark
+    public boolean runFolded() {
+        return this.interpreter.run(this.folded);
+    }
+}
@@ -0,0 +1,154 @@
+/*********************** GNU General Public License 3.0 ***********************\
+|                                                                              |
+|  Copyright (C) 2024 Kevin Matthes                                            |
+|                                                                              |
+|  This program is free software: you can redistribute it and/or modify        |
+|  it under the terms of the GNU General Public License as published by        |
+|  the Free Software Foundation, either version 3 of the License, or           |
+|  (at your option) any later version.                                         |
+|                                                                              |
+|  This program is distributed in the hope that it will be useful,             |
+|  but WITHOUT ANY WARRANTY; without even the implied warranty of              |
+|  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               |
+|  GNU General Public License for more details.                                |
+|                                                                              |
+|  You should have received a copy of the GNU General Public License           |
+|  along with this program.  If not, see <https://www.gnu.org/licenses/>.      |
+|                                                                              |
+\******************************************************************************/
+
+package io.github.kevinmatthes.yal.benchmarks;
+
+import io.github.kevinmatthes.yal.AsciiSequence;
+import io.github.kevinmatthes.yal.Lexer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The benchmarks for YAL's lexer.
+ *
+ * @author Kevin Matthes
+ * @version 0.1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class LexerBenchmark {
+    /**
+     * The kind of source code to lex.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Param({"small", "large", "errors"})
+    public String input;
+
+    /**
+     * The source code to process.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private String code;
+
+    /**
+     * The source code to process as a view of its encoded bytes.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private AsciiSequence bytes;
+
+    /**
+     * Prepare the source code to lex.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Setup
+    public void setup() {
+        switch (this.input) {
+            case "small" :
+                this.code = new Workload(0).generate(1);
+                break;
+
+            case "large" :
+                this.code = new Workload(0).withWhitespace(10)
+                        .generate(100_000);
+                break;
+
+            default :
+                this.code = new Workload(0).withMix(1, 4, 4).withWhitespace(10)
+                        .generate(100_000);
+                break;
+        }
+
+        final byte[] encoded = this.code.getBytes(StandardCharsets.ISO_8859_1);
+
+        this.bytes = new AsciiSequence(
+                ByteBuffer.allocateDirect(encoded.length).put(encoded).flip());
+    }
+
+    /**
+     * Measure lexing the entire source code at once.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The number of tokens.
+     */
+    @Benchmark
+    public int lex() {
+        Lexer lexer = new Lexer();
+        lexer.lex(this.code);
+
+        return lexer.getTokenBuffer().size();
+    }
+
+    /**
+     * Measure lexing the source code from its encoded bytes.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The number of tokens.
+     */
+    @Benchmark
+    public int lexBytes() {
+        Lexer lexer = new Lexer();
+        lexer.lex(this.bytes);
+
+        return lexer.getTokenBuffer().size();
+    }
+
+    /**
+     * Measure lexing the entire source code in parallel.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The number of tokens.
+     */
+    @Benchmark
+    public int lexParallel() {
+        Lexer lexer = new Lexer();
+        lexer.lex(this.code, ForkJoinPool.commonPool());
+
+        return lexer.getTokenBuffer().size();
+    }
+}
@@ -0,0 +1,290 @@
+/*********************** GNU General Public License 3.0 ***********************\
+|                                                                              |
+|  Copyright (C) 2024 Kevin Matthes                                            |
+|                                                                              |
+|  This program is free software: you can redistribute it and/or modify        |
+|  it under the terms of the GNU General Public License as published by        |
+|  the Free Software Foundation, either version 3 of the License, or           |
+|  (at your option) any later version.                                         |
+|                                                                              |
+|  This program is distributed in the hope that it will be useful,             |
+|  but WITHOUT ANY WARRANTY; without even the implied warranty of              |
+|  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               |
+|  GNU General Public License for more details.                                |
+|                                                                              |
+|  You should have received a copy of the GNU General Public License           |
+|  along with this program.  If not, see <https://www.gnu.org/licenses/>.      |
+|                                                                              |
+\******************************************************************************/
+
+package io.github.kevinmatthes.yal.benchmarks;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+/**
+ * A generator of synthetic YAL scripts. The scripts only depend on the seed and
+ * the configured mix of statements, such that benchmarks and stress tests can
+ * run on the same inputs without storing them.
+ *
+ * @author Kevin Matthes
+ * @version 0.1.0
+ */
+public class Workload {
+    /**
+     * The characters error runs are made of.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private static String JUNK = "abfghjklmnopqtuvwxyz#$%&*+/:;<=>?@_~";
+
+    /**
+     * The statements which almost describe an instance.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private static String[] NEAR_MISSES = {"- describ ", "- descrx ",
+            "- desc ", "- describee ", "- d ", "describe "};
+
+    /**
+     * The seed of the pseudo-random number generator.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private long seed;
+
+    /**
+     * The relative frequency of valid description statements.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private int describes;
+
+    /**
+     * The relative frequency of lines consisting of error runs.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private int errors;
+
+    /**
+     * The relative frequency of statements with misspelt keywords.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private int nearMisses;
+
+    /**
+     * The percentage of separators to be widened by further whitespace.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private int whitespace;
+
+    /**
+     * Create a new instance generating valid description statements only.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param seed
+     *            The seed of the pseudo-random number generator.
+     */
+    public Workload(final long seed) {
+        this.seed = seed;
+        this.describes = 1;
+        this.errors = 0;
+        this.nearMisses = 0;
+        this.whitespace = 0;
+    }
+
+    /**
+     * Generate a script as a String.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param statements
+     *            The number of statements to generate.
+     * @return The generated script.
+     */
+    public String generate(final int statements) {
+        StringWriter result = new StringWriter();
+
+        try {
+            this.write(result, statements);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Generate a script into a file.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param args
+     *            The file to write to, the number of statements, the seed and,
+     *            optionally, the relative frequencies of descriptions, errors
+     *            and misspelt keywords as well as the whitespace percentage.
+     * @throws IOException
+     *             if the file could not be written.
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length != 3 && args.length != 7) {
+            System.err.println("usage:  Workload FILE STATEMENTS SEED "
+                    + "[DESCRIBES ERRORS NEAR_MISSES WHITESPACE]");
+            return;
+        }
+
+        Workload workload = new Workload(Long.parseLong(args[2]));
+
+        if (args.length == 7)
+            workload.withMix(Integer.parseInt(args[3]),
+                    Integer.parseInt(args[4]), Integer.parseInt(args[5]))
+                    .withWhitespace(Integer.parseInt(args[6]));
+
+        workload.write(Path.of(args[0]), Integer.parseInt(args[1]));
+    }
+
+    private void separate(final SplittableRandom random, final Writer out)
+            throws IOException {
+        out.write(' ');
+
+        if (random.nextInt(100) < this.whitespace) {
+            final int spaces = random.nextInt(8);
+
+            for (int i = 0; i < spaces; i++)
+                out.write(' ');
+
+            if (random.nextBoolean())
+                out.write("\n ");
+        }
+    }
+
+    /**
+     * Configure the relative frequencies of the kinds of statements.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param describes
+     *            The relative frequency of valid description statements.
+     * @param errors
+     *            The relative frequency of lines consisting of error runs.
+     * @param nearMisses
+     *            The relative frequency of statements with misspelt keywords.
+     * @return This instance.
+     * @throws IllegalArgumentException
+     *             if any frequency is negative or all of them are zero.
+     */
+    public Workload withMix(final int describes, final int errors,
+            final int nearMisses) throws IllegalArgumentException {
+        if (describes < 0 || errors < 0 || nearMisses < 0
+                || describes + errors + nearMisses == 0)
+            throw new IllegalArgumentException("invalid statement mix");
+
+        this.describes = describes;
+        this.errors = errors;
+        this.nearMisses = nearMisses;
+
+        return this;
+    }
+
+    /**
+     * Configure how often separators are widened by further whitespace.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param percentage
+     *            The percentage of separators to widen.
+     * @return This instance.
+     * @throws IllegalArgumentException
+     *             if the percentage is out of range.
+     */
+    public Workload withWhitespace(final int percentage)
+            throws IllegalArgumentException {
+        if (percentage < 0 || percentage > 100)
+            throw new IllegalArgumentException("invalid percentage");
+
+        this.whitespace = percentage;
+
+        return this;
+    }
+
+    /**
+     * Generate a script into the given file.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param path
+     *            The file to write to.
+     * @param statements
+     *            The number of statements to generate.
+     * @throws IOException
+     *             if the file could not be written.
+     */
+    public void write(final Path path, final int statements)
+            throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(path,
+                StandardCharsets.UTF_8)) {
+            this.write(out, statements);
+        }
+    }
+
+    /**
+     * Generate a script into the given stream. Each statement is written as
+     * soon as it was generated.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param out
+     *            The stream to write to.
+     * @param statements
+     *            The number of statements to generate.
+     * @throws IOException
+     *             if the stream could not be written.
+     */
+    public void write(final Writer out, final int statements)
+            throws IOException {
+        final SplittableRandom random = new SplittableRandom(this.seed);
+        final int total = this.describes + this.errors + this.nearMisses;
+
+        for (int i = 0; i < statements; i++) {
+            final int kind = random.nextInt(total);
+
+            if (kind < this.describes) {
+                out.write('-');
+                this.separate(random, out);
+                out.write("describe");
+                this.separate(random, out);
+                out.write(Integer.toString(random.nextBoolean()
+                        ? random.nextInt(1024)
+                        : random.nextInt(Integer.MAX_VALUE)));
+            } else if (kind < this.describes + this.errors) {
+                final int length = 1 + random.nextInt(64);
+
+                for (int j = 0; j < length; j++)
+                    out.write(JUNK.charAt(random.nextInt(JUNK.length())));
+            } else {
+                out.write(NEAR_MISSES[random.nextInt(NEAR_MISSES.length)]);
+                out.write(Integer.toString(random.nextInt(1024)));
+            }
+
+            out.write('\n');
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*********************** GNU General Public License 3.0 ***********************\
+|                                                                              |
+|  Copyright (C) 2024 Kevin Matthes                                            |
+|                                                                              |
+|  This program is free software: you can redistribute it and/or modify        |
+|  it under the terms of the GNU General Public License as published by        |
+|  the Free Software Foundation, either version 3 of the License, or           |
+|  (at your option) any later version.                                         |
+|                                                                              |
+|  This program is distributed in the hope that it will be useful,             |
+|  but WITHOUT ANY WARRANTY; without even the implied warranty of              |
+|  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               |
+|  GNU General Public License for more details.                                |
+|                                                                              |
+|  You should have received a copy of the GNU General Public License           |
+|  along with this program.  If not, see <https://www.gnu.org/licenses/>.      |
+|                                                                              |
+\******************************************************************************/
+
+package io.github.kevinmatthes.yal.benchmarks;
+
+import io.github.kevinmatthes.yal.Interpreter;
+import io.github.kevinmatthes.yal.Lexer;
+import io.github.kevinmatthes.yal.ProgramCompiler;
+import io.github.kevinmatthes.yal.ProgramOptimiser;
+import io.github.kevinmatthes.yal.TokenBuffer;
+import io.github.kevinmatthes.yal.TokenType;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * The unit and stress tests for the synthetic YAL workloads.
+ *
+ * @author Kevin Matthes
+ * @version 0.1.0
+ */
+public class TestWorkload {
+    private int count(final TokenBuffer tokens, final TokenType type) {
+        int result = 0;
+
+        for (int i = tokens.getFirst(); i < tokens.size(); i++)
+            if (tokens.getType(i) == type)
+                result++;
+
+        return result;
+    }
+
+    /**
+     * Ensure that the same seed yields the same script, regardless of whether
+     * it is generated into a String or a file.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @throws IOException
+     *             if the temporary file could not be written.
+     */
+    @Test
+    public void testDeterminism() throws IOException {
+        final Path file = Files.createTempFile("yal", ".yal");
+        final String script = new Workload(42).withMix(3, 1, 1)
+                .withWhitespace(20).generate(10_000);
+
+        try {
+            new Workload(42).withMix(3, 1, 1).withWhitespace(20).write(file,
+                    10_000);
+
+            Assert.assertEquals(new Workload(42).withMix(3, 1, 1)
+                    .withWhitespace(20).generate(10_000), script);
+            Assert.assertEquals(Files.readAllBytes(file),
+                    script.getBytes(StandardCharsets.UTF_8));
+            Assert.assertNotEquals(new Workload(43).withMix(3, 1, 1)
+                    .withWhitespace(20).generate(10_000), script);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Ensure that invalid configurations are rejected.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testInvalidConfiguration() {
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> new Workload(0).withMix(0, 0, 0));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> new Workload(0).withMix(-1, 1, 1));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> new Workload(0).withWhitespace(101));
+    }
+
+    /**
+     * Ensure that each kind of statement is generated as configured.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testMix() {
+        Lexer lexer = new Lexer();
+
+        lexer.lex(new Workload(1).withWhitespace(50).generate(1000));
+        Assert.assertEquals(count(lexer.getTokenBuffer(), TokenType.Describe),
+                1000);
+        Assert.assertEquals(count(lexer.getTokenBuffer(), TokenType.Integral),
+                1000);
+        Assert.assertEquals(count(lexer.getTokenBuffer(), TokenType.Error), 0);
+
+        lexer.reset();
+        lexer.lex(new Workload(1).withMix(0, 1, 0).generate(1000));
+        Assert.assertEquals(lexer.getTokenBuffer().size(),
+                count(lexer.getTokenBuffer(), TokenType.Error));
+
+        final String misses = new Workload(1).withMix(0, 0, 1).generate(1000);
+        StringBuilder out = new StringBuilder();
+        StringBuilder err = new StringBuilder();
+
+        Assert.assertEquals(new Interpreter(out, err).run(misses), false);
+        Assert.assertEquals(out.toString(), "");
+        Assert.assertEquals(misses.lines().count(), 1000);
+    }
+
+    /**
+     * Ensure that a large mixed workload yields the same results for each way
+     * of lexing and executing it.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testStress() {
+        final String script = new Workload(7).withMix(8, 1, 1)
+                .withWhitespace(10).generate(200_000);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        Lexer parallel = new Lexer();
+        Lexer sequential = new Lexer();
+
+        try {
+            parallel.lex(script, pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        sequential.lex(script);
+        Assert.assertEquals(parallel.toString(), sequential.toString());
+
+        StringBuilder interpretedOut = new StringBuilder();
+        StringBuilder interpretedErr = new StringBuilder();
+        StringBuilder compiledOut = new StringBuilder();
+        StringBuilder compiledErr = new StringBuilder();
+
+        Assert.assertEquals(
+                new Interpreter(interpretedOut, interpretedErr).run(script),
+                false);
+        Assert.assertEquals(new Interpreter(compiledOut, compiledErr)
+                .run(new ProgramOptimiser()
+                        .optimise(new ProgramCompiler().compile(script))),
+                false);
+        Assert.assertEquals(compiledOut.toString(), interpretedOut.toString());
+        Assert.assertEquals(compiledErr.toString(), interpretedErr.toString());
+    }
+}
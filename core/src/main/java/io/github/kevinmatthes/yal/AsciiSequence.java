@@ -0,0 +1,270 @@
+/*********************** GNU General Public License 3.0 ***********************\
+|                                                                              |
+|  Copyright (C) 2024 Kevin Matthes                                            |
+|                                                                              |
+|  This program is free software: you can redistribute it and/or modify        |
+|  it under the terms of the GNU General Public License as published by        |
+|  the Free Software Foundation, either version 3 of the License, or           |
+|  (at your option) any later version.                                         |
+|                                                                              |
+|  This program is distributed in the hope that it will be useful,             |
+|  but WITHOUT ANY WARRANTY; without even the implied warranty of              |
+|  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               |
+|  GNU General Public License for more details.                                |
+|                                                                              |
+|  You should have received a copy of the GNU General Public License           |
+|  along with this program.  If not, see <https://www.gnu.org/licenses/>.      |
+|                                                                              |
+\******************************************************************************/
+
+package io.github.kevinmatthes.yal;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A view of bytes as characters. Since YAL's grammar is pure ASCII, source code
+ * can be lexed directly from its encoded form without decoding it first. Any
+ * other byte can only be part of an error token and is interpreted as
+ * ISO-8859-1.
+ *
+ * @author Kevin Matthes
+ * @version 0.1.0
+ */
+public class AsciiSequence implements CharSequence {
+    /**
+     * A word with each byte's lower seven bits set.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private static long LOWS = 0x7F7F7F7F7F7F7F7FL;
+
+    /**
+     * A word with each byte's highest bit set.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private static long HIGHS = 0x8080808080808080L;
+
+    /**
+     * A word with each byte holding a newline.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private static long NEWLINES = 0x0A0A0A0A0A0A0A0AL;
+
+    /**
+     * A word with each byte holding a carriage return.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private static long RETURNS = 0x0D0D0D0D0D0D0D0DL;
+
+    /**
+     * A word with each byte holding a space.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private static long SPACES = 0x2020202020202020L;
+
+    /**
+     * A word with each byte holding a dash.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private static long DASHES = 0x2D2D2D2D2D2D2D2DL;
+
+    /**
+     * The bytes to view as characters.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private ByteBuffer bytes;
+
+    /**
+     * The index of this view's first byte within the buffer.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private int offset;
+
+    /**
+     * The number of bytes in this view.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private int length;
+
+    /**
+     * Create a new instance viewing the remaining bytes of the given buffer.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param bytes
+     *            The bytes to view as characters.
+     */
+    public AsciiSequence(final ByteBuffer bytes) {
+        this(bytes, bytes.position(), bytes.remaining());
+    }
+
+    /**
+     * Create a new instance viewing a part of the given buffer.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param bytes
+     *            The bytes to view as characters.
+     * @param offset
+     *            The index of the view's first byte within the buffer.
+     * @param length
+     *            The number of bytes in the view.
+     */
+    public AsciiSequence(final ByteBuffer bytes, final int offset,
+            final int length) {
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    private int first(final long matches) {
+        return (this.bytes.order() == ByteOrder.BIG_ENDIAN
+                ? Long.numberOfLeadingZeros(matches)
+                : Long.numberOfTrailingZeros(matches)) >>> 3;
+    }
+
+    /**
+     * Find the next newline, carriage return, space or dash. Eight characters
+     * are checked at once by treating them as a single word.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param from
+     *            The index to start searching at.
+     * @param to
+     *            The index to stop searching at.
+     * @return The index of the next delimiter or the end of the search range.
+     */
+    int indexOfDelimiter(final int from, final int to) {
+        int i = from;
+
+        for (; i + Long.BYTES <= to; i += Long.BYTES) {
+            final long word = this.bytes.getLong(this.offset + i);
+            final long matches = zeros(word ^ NEWLINES) | zeros(word ^ RETURNS)
+                    | zeros(word ^ SPACES) | zeros(word ^ DASHES);
+
+            if (matches != 0)
+                return i + this.first(matches);
+        }
+
+        for (; i < to; i++) {
+            final byte b = this.bytes.get(this.offset + i);
+
+            if (b == '\n' || b == '\r' || b == ' ' || b == '-')
+                return i;
+        }
+
+        return to;
+    }
+
+    /**
+     * Find the next character which is no space. Eight characters are checked
+     * at once by treating them as a single word.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param from
+     *            The index to start searching at.
+     * @param to
+     *            The index to stop searching at.
+     * @return The index of the next non-space character or the end of the
+     *         search range.
+     */
+    int skipSpaces(final int from, final int to) {
+        int i = from;
+
+        for (; i + Long.BYTES <= to; i += Long.BYTES) {
+            final long others = ~zeros(
+                    this.bytes.getLong(this.offset + i) ^ SPACES) & HIGHS;
+
+            if (others != 0)
+                return i + this.first(others);
+        }
+
+        while (i < to && this.bytes.get(this.offset + i) == ' ')
+            i++;
+
+        return i;
+    }
+
+    private static long zeros(final long word) {
+        return ~((word & LOWS) + LOWS | word | LOWS);
+    }
+
+    /**
+     * Retrieve the given character.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param index
+     *            The index of the character of interest.
+     * @return The character at the given index.
+     */
+    @Override
+    public char charAt(final int index) {
+        return (char) (this.bytes.get(this.offset + index) & 0xFF);
+    }
+
+    /**
+     * Retrieve the number of characters in this view.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The number of characters in this view.
+     */
+    @Override
+    public int length() {
+        return this.length;
+    }
+
+    /**
+     * Create a view of a part of this view.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param start
+     *            The index of the first character of the part.
+     * @param end
+     *            The index after the last character of the part.
+     * @return A view sharing this view's bytes.
+     */
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        return new AsciiSequence(this.bytes, this.offset + start, end - start);
+    }
+
+    /**
+     * Copy the characters of this view into a String.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The characters of this view.
+     */
+    @Override
+    public String toString() {
+        final byte[] result = new byte[this.length];
+
+        this.bytes.get(this.offset, result);
+
+        return new String(result, StandardCharsets.ISO_8859_1);
+    }
+}
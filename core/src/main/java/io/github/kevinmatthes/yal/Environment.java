@@ -0,0 +1,334 @@
+/*********************** GNU General Public License 3.0 ***********************\
+|                                                                              |
+|  Copyright (C) 2024 Kevin Matthes                                            |
+|                                                                              |
+|  This program is free software: you can redistribute it and/or modify        |
+|  it under the terms of the GNU General Public License as published by        |
+|  the Free Software Foundation, either version 3 of the License, or           |
+|  (at your option) any later version.                                         |
+|                                                                              |
+|  This program is distributed in the hope that it will be useful,             |
+|  but WITHOUT ANY WARRANTY; without even the implied warranty of              |
+|  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               |
+|  GNU General Public License for more details.                                |
+|                                                                              |
+|  You should have received a copy of the GNU General Public License           |
+|  along with this program.  If not, see <https://www.gnu.org/licenses/>.      |
+|                                                                              |
+\******************************************************************************/
+
+package io.github.kevinmatthes.yal;
+
+import java.util.Arrays;
+
+/**
+ * The variables of a YAL execution. Each identifier is resolved to a slot once
+ * via its symbol id such that reading and writing its value afterwards only
+ * accesses arrays. An instance must not be shared by concurrent executions.
+ *
+ * @author Kevin Matthes
+ * @version 0.1.0
+ */
+public class Environment {
+    /**
+     * The table the identifiers are interned in.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private SymbolTable symbols;
+
+    /**
+     * Retrieve the table the identifiers are interned in.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The symbol table.
+     */
+    public SymbolTable getSymbols() {
+        return this.symbols;
+    }
+
+    /**
+     * The slots indexed by the symbol ids they were defined for, or -1 for
+     * symbols without a variable.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private int[] slots;
+
+    /**
+     * The symbol ids indexed by their slots.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private int[] ids;
+
+    /**
+     * The values indexed by their slots.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private int[] values;
+
+    /**
+     * The bitset of the slots holding eternal values.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private long[] eternal;
+
+    /**
+     * The number of defined slots.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private int size;
+
+    /**
+     * Retrieve the number of defined slots.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The number of defined slots.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Create a new instance without any variables and with its own symbol
+     * table.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    public Environment() {
+        this(new SymbolTable());
+    }
+
+    /**
+     * Create a new instance without any variables, interning the identifiers in
+     * the given symbol table, such as the one of a lexer.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param symbols
+     *            The table to intern the identifiers in.
+     */
+    public Environment(final SymbolTable symbols) {
+        this.symbols = symbols;
+        this.slots = new int[16];
+        this.ids = new int[16];
+        Arrays.fill(this.slots, -1);
+        this.values = new int[16];
+        this.eternal = new long[1];
+        this.size = 0;
+    }
+
+    /**
+     * Define a new variable.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param identifier
+     *            The variable's name.
+     * @param isEternal
+     *            Whether the variable cannot be modified.
+     * @param value
+     *            The variable's initial value.
+     * @return The slot of the new variable.
+     * @throws IllegalArgumentException
+     *             if the identifier was defined already.
+     */
+    public int define(final String identifier, final boolean isEternal,
+            final int value) throws IllegalArgumentException {
+        return this.define(
+                this.symbols.intern(identifier, 0, identifier.length()),
+                isEternal, value);
+    }
+
+    /**
+     * Define a new variable for the given symbol.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param id
+     *            The symbol id of the variable's name.
+     * @param isEternal
+     *            Whether the variable cannot be modified.
+     * @param value
+     *            The variable's initial value.
+     * @return The slot of the new variable.
+     * @throws IllegalArgumentException
+     *             if the id is unknown to the symbol table or the identifier
+     *             was defined already.
+     */
+    public int define(final int id, final boolean isEternal, final int value)
+            throws IllegalArgumentException {
+        if (id < 0 || id >= this.symbols.size())
+            throw new IllegalArgumentException(id + " is no symbol id");
+
+        if (this.resolve(id) >= 0)
+            throw new IllegalArgumentException(
+                    this.symbols.getName(id) + " is already defined");
+
+        if (id >= this.slots.length) {
+            final int length = this.slots.length;
+
+            this.slots = Arrays.copyOf(this.slots,
+                    Math.max(length << 1, id + 1));
+            Arrays.fill(this.slots, length, this.slots.length, -1);
+        }
+
+        if (this.size == this.values.length) {
+            this.ids = Arrays.copyOf(this.ids, this.size << 1);
+            this.values = Arrays.copyOf(this.values, this.size << 1);
+            this.eternal = Arrays.copyOf(this.eternal,
+                    (this.size << 1) + Long.SIZE - 1 >>> 6);
+        }
+
+        this.slots[id] = this.size;
+        this.ids[this.size] = id;
+        this.values[this.size] = value;
+
+        if (isEternal)
+            this.eternal[this.size >>> 6] |= 1L << this.size;
+
+        return this.size++;
+    }
+
+    /**
+     * Append the description of the given variable to the given buffer. The
+     * description matches the one of an {@link Integral} instance of the same
+     * properties.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param result
+     *            The buffer to append to.
+     * @param slot
+     *            The variable's slot.
+     * @return The given buffer.
+     */
+    public StringBuilder describeTo(final StringBuilder result,
+            final int slot) {
+        result.append('\'').append(this.getIdentifier(slot)).append("' ")
+                .append(Integral.TYPE);
+
+        if (this.isEternal(slot))
+            result.append("eternal ");
+
+        return result.append(this.values[slot]);
+    }
+
+    /**
+     * Retrieve the given variable's name.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param slot
+     *            The variable's slot.
+     * @return The variable's name.
+     */
+    public String getIdentifier(final int slot) {
+        return this.symbols.getName(this.ids[slot]);
+    }
+
+    /**
+     * Retrieve the given variable's value.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param slot
+     *            The variable's slot.
+     * @return The variable's value.
+     */
+    public int getValue(final int slot) {
+        return this.values[slot];
+    }
+
+    /**
+     * Check whether the given variable cannot be modified.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param slot
+     *            The variable's slot.
+     * @return Whether the variable is eternal.
+     */
+    public boolean isEternal(final int slot) {
+        return (this.eternal[slot >>> 6] & 1L << slot) != 0;
+    }
+
+    /**
+     * Redefine the given variable's value.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param slot
+     *            The variable's slot.
+     * @param value
+     *            The new value.
+     * @throws IllegalAccessException
+     *             if the variable is eternal.
+     */
+    public void redefine(final int slot, final int value)
+            throws IllegalAccessException {
+        this.setValue(slot, value);
+    }
+
+    /**
+     * Resolve the given identifier to its variable's slot.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param identifier
+     *            The variable's name.
+     * @return The variable's slot or -1 if the identifier is not defined.
+     */
+    public int resolve(final String identifier) {
+        final int id = this.symbols.lookup(identifier, 0, identifier.length());
+
+        return id < 0 ? -1 : this.resolve(id);
+    }
+
+    /**
+     * Resolve the given symbol to its variable's slot.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param id
+     *            The symbol id of the variable's name.
+     * @return The variable's slot or -1 if the symbol is not defined.
+     */
+    public int resolve(final int id) {
+        return id >= 0 && id < this.slots.length ? this.slots[id] : -1;
+    }
+
+    /**
+     * Modify the given variable's value.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param slot
+     *            The variable's slot.
+     * @param value
+     *            The new value.
+     * @throws IllegalAccessException
+     *             if the variable is eternal.
+     */
+    public void setValue(final int slot, final int value)
+            throws IllegalAccessException {
+        if (this.isEternal(slot))
+            throw new IllegalAccessException(
+                    "eternal instances cannot be modified");
+
+        this.values[slot] = value;
+    }
+}
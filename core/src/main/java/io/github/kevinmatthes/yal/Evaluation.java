@@ -0,0 +1,104 @@
+/*********************** GNU General Public License 3.0 ***********************\
+|                                                                              |
+|  Copyright (C) 2024 Kevin Matthes                                            |
+|                                                                              |
+|  This program is free software: you can redistribute it and/or modify        |
+|  it under the terms of the GNU General Public License as published by        |
+|  the Free Software Foundation, either version 3 of the License, or           |
+|  (at your option) any later version.                                         |
+|                                                                              |
+|  This program is distributed in the hope that it will be useful,             |
+|  but WITHOUT ANY WARRANTY; without even the implied warranty of              |
+|  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               |
+|  GNU General Public License for more details.                                |
+|                                                                              |
+|  You should have received a copy of the GNU General Public License           |
+|  along with this program.  If not, see <https://www.gnu.org/licenses/>.      |
+|                                                                              |
+\******************************************************************************/
+
+package io.github.kevinmatthes.yal;
+
+/**
+ * The result of an evaluated snippet.
+ *
+ * @author Kevin Matthes
+ * @version 0.1.0
+ */
+public class Evaluation {
+    /**
+     * Whether the snippet could be executed successfully.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private boolean success;
+
+    /**
+     * Check whether the snippet could be executed successfully.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return Whether the snippet could be executed successfully.
+     */
+    public boolean isSuccess() {
+        return this.success;
+    }
+
+    /**
+     * The results of the executed instructions.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private String output;
+
+    /**
+     * Retrieve the results of the executed instructions.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The results of the executed instructions.
+     */
+    public String getOutput() {
+        return this.output;
+    }
+
+    /**
+     * The tokens of failed instructions.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private String errors;
+
+    /**
+     * Retrieve the tokens of failed instructions.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The tokens of failed instructions.
+     */
+    public String getErrors() {
+        return this.errors;
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param success
+     *            Whether the snippet could be executed successfully.
+     * @param output
+     *            The results of the executed instructions.
+     * @param errors
+     *            The tokens of failed instructions.
+     */
+    public Evaluation(final boolean success, final String output,
+            final String errors) {
+        this.success = success;
+        this.output = output;
+        this.errors = errors;
+    }
+}
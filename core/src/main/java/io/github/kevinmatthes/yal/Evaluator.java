@@ -0,0 +1,302 @@
+/*********************** GNU General Public License 3.0 ***********************\
+|                                                                              |
+|  Copyright (C) 2024 Kevin Matthes                                            |
+|                                                                              |
+|  This program is free software: you can redistribute it and/or modify        |
+|  it under the terms of the GNU General Public License as published by        |
+|  the Free Software Foundation, either version 3 of the License, or           |
+|  (at your option) any later version.                                         |
+|                                                                              |
+|  This program is distributed in the hope that it will be useful,             |
+|  but WITHOUT ANY WARRANTY; without even the implied warranty of              |
+|  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               |
+|  GNU General Public License for more details.                                |
+|                                                                              |
+|  You should have received a copy of the GNU General Public License           |
+|  along with this program.  If not, see <https://www.gnu.org/licenses/>.      |
+|                                                                              |
+\******************************************************************************/
+
+package io.github.kevinmatthes.yal;
+
+import java.util.ArrayList;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An in-process service evaluating YAL snippets asynchronously. The submitted
+ * snippets are queued and taken by a fixed number of workers, each draining
+ * several of them with a single access to the queue. Each worker reuses its own
+ * lexer and output buffers while all of them share one interpreter.
+ *
+ * @author Kevin Matthes
+ * @version 0.1.0
+ */
+public class Evaluator implements AutoCloseable {
+    /**
+     * A submitted snippet awaiting its evaluation.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private static class Request {
+        /**
+         * The snippet to evaluate.
+         *
+         * @author Kevin Matthes
+         * @version 0.1.0
+         */
+        final private CharSequence code;
+
+        /**
+         * The future to complete with the result.
+         *
+         * @author Kevin Matthes
+         * @version 0.1.0
+         */
+        final private CompletableFuture<Evaluation> result;
+
+        /**
+         * Create a new request.
+         *
+         * @author Kevin Matthes
+         * @version 0.1.0
+         * @param code
+         *            The snippet to evaluate.
+         */
+        private Request(final CharSequence code) {
+            this.code = code;
+            this.result = new CompletableFuture<>();
+        }
+    }
+
+    /**
+     * The maximum number of snippets a worker takes from the queue at once.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private static int BATCH_SIZE = 64;
+
+    /**
+     * The milliseconds an idle worker waits before checking for shutdown.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private static long POLL_INTERVAL = 100;
+
+    /**
+     * The interpreter shared by all workers.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private Interpreter interpreter;
+
+    /**
+     * The snippets not yet taken by a worker.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private BlockingQueue<Request> queue;
+
+    /**
+     * The threads evaluating the queued snippets.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private Thread[] workers;
+
+    /**
+     * Whether this instance still accepts snippets.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private volatile boolean closed;
+
+    /**
+     * Create a new instance with one worker per available processor and room
+     * for 1024 queued snippets.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    public Evaluator() {
+        this(Runtime.getRuntime().availableProcessors(), 1024);
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param workers
+     *            The number of threads evaluating snippets.
+     * @param capacity
+     *            The number of snippets which may be queued before further
+     *            submissions are held back.
+     * @throws IllegalArgumentException
+     *             if either number is not positive.
+     */
+    public Evaluator(final int workers, final int capacity)
+            throws IllegalArgumentException {
+        if (workers < 1 || capacity < 1)
+            throw new IllegalArgumentException(
+                    "Workers and capacity need to be positive.");
+
+        this.interpreter = new Interpreter();
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.workers = new Thread[workers];
+        this.closed = false;
+
+        for (int i = 0; i < workers; i++) {
+            this.workers[i] = new Thread(this::work, "yal-evaluator-" + i);
+            this.workers[i].setDaemon(true);
+            this.workers[i].start();
+        }
+    }
+
+    /**
+     * Stop accepting snippets, evaluate the queued ones and stop the workers.
+     * Snippets submitted concurrently to this call may be rejected.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+
+        try {
+            for (Thread worker : this.workers)
+                worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        Request request;
+
+        while ((request = this.queue.poll()) != null)
+            reject(request);
+    }
+
+    private void evaluate(final Lexer lexer, final StringBuilder output,
+            final StringBuilder errors, final Request request) {
+        if (request.result.isDone())
+            return;
+
+        try {
+            output.setLength(0);
+            errors.setLength(0);
+            lexer.reset();
+            final boolean success = this.interpreter
+                    .run(lexer.stream(request.code), output, errors);
+
+            request.result.complete(new Evaluation(success, output.toString(),
+                    errors.toString()));
+        } catch (Throwable t) {
+            request.result.completeExceptionally(t);
+        }
+    }
+
+    private CompletableFuture<Evaluation> enqueued(final Request request) {
+        if (this.closed && this.queue.remove(request))
+            reject(request);
+
+        return request.result;
+    }
+
+    private static void reject(final Request request) {
+        request.result.completeExceptionally(
+                new RejectedExecutionException("The evaluator is closed."));
+    }
+
+    /**
+     * Submit a snippet for evaluation, waiting for room in the queue if
+     * necessary.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param code
+     *            The snippet to evaluate.
+     * @return The future result of the evaluation.
+     * @throws InterruptedException
+     *             if interrupted while waiting for room in the queue.
+     * @throws RejectedExecutionException
+     *             if this instance was closed.
+     */
+    public CompletableFuture<Evaluation> submit(final CharSequence code)
+            throws InterruptedException, RejectedExecutionException {
+        if (this.closed)
+            throw new RejectedExecutionException("The evaluator is closed.");
+
+        final Request request = new Request(code);
+
+        this.queue.put(request);
+
+        return this.enqueued(request);
+    }
+
+    /**
+     * Submit a snippet for evaluation without waiting. If the queue is full,
+     * the returned future fails with a {@link RejectedExecutionException}.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param code
+     *            The snippet to evaluate.
+     * @return The future result of the evaluation.
+     */
+    public CompletableFuture<Evaluation> trySubmit(final CharSequence code) {
+        final Request request = new Request(code);
+
+        if (this.closed)
+            reject(request);
+        else if (this.queue.offer(request))
+            return this.enqueued(request);
+        else
+            request.result.completeExceptionally(
+                    new RejectedExecutionException("The queue is full."));
+
+        return request.result;
+    }
+
+    private void work() {
+        ArrayList<Request> batch = new ArrayList<>(BATCH_SIZE);
+        StringBuilder output = new StringBuilder();
+        StringBuilder errors = new StringBuilder();
+        Lexer lexer = new Lexer();
+
+        try {
+            for (;;) {
+                final Request request = this.queue.poll(POLL_INTERVAL,
+                        TimeUnit.MILLISECONDS);
+
+                if (request == null) {
+                    if (this.closed)
+                        return;
+
+                    continue;
+                }
+
+                batch.add(request);
+                this.queue.drainTo(batch, BATCH_SIZE - 1);
+
+                for (Request r : batch)
+                    this.evaluate(lexer, output, errors, r);
+
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            for (Request r : batch)
+                reject(r);
+        }
+    }
+}
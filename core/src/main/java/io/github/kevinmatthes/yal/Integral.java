@@ -19,6 +19,8 @@
 
 package io.github.kevinmatthes.yal;
 
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
 /**
  * The default integer type.
  *
@@ -26,6 +28,64 @@ package io.github.kevinmatthes.yal;
  * @version 0.1.0
  */
 public class Integral {
+    /**
+     * The summary prefix denoting this type.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final static String TYPE = "(" + Integral.class.getSimpleName() + "): ";
+
+    /**
+     * The smallest value of the literals which are always pooled.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private static int CACHE_LOW = -128;
+
+    /**
+     * The literals which are always pooled, indexed by their value's offset to
+     * the smallest one.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private static Integral[] CACHE = new Integral[1152];
+
+    /**
+     * The number of bits of the hash selecting a further literal's slot.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private static int POOL_BITS = 10;
+
+    /**
+     * The further literals beyond the ones which are always pooled, each one in
+     * the slot selected by its value's hash. Literals competing for a slot
+     * replace each other, so no lock is needed.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private static AtomicReferenceArray<Integral> POOL = new AtomicReferenceArray<>(
+            1 << POOL_BITS);
+
+    static {
+        for (int i = 0; i < CACHE.length; i++)
+            CACHE[i] = new Integral(null, true, CACHE_LOW + i);
+    }
+
+    /**
+     * This instance's summary, once generated, in case it is one of the
+     * literals which are always pooled.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private String description;
+
     /**
      * This integer's identifier.
      *
@@ -123,31 +183,73 @@ public class Integral {
         this.identifier = identifier;
         this.isEternal = isEternal;
         this.value = value;
+        this.description = null;
     }
 
     /**
-     * Generate a summary of this instance.
+     * Generate a summary of this instance. The summaries of the literals which
+     * are always pooled are generated only once.
      *
      * @author Kevin Matthes
      * @version 0.1.0
      * @return A summary of this instance.
      */
     public String describe() {
-        StringBuilder result = new StringBuilder();
+        if (this.description != null)
+            return this.description;
 
-        if (this.identifier != null)
-            result.append("'" + this.identifier + "' ");
-        else
-            result.append("literal ");
+        final String result = this.summarise(new StringBuilder()).toString();
 
-        result.append("(" + this.getClass().getSimpleName() + "): ");
+        if (this.isCached())
+            this.description = result;
 
-        if (this.isEternal)
-            result.append("eternal ");
+        return result;
+    }
+
+    /**
+     * Append a summary of this instance to the given buffer without creating
+     * any intermediate objects.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param result
+     *            The buffer to append to.
+     * @return The given buffer.
+     */
+    public StringBuilder describeTo(final StringBuilder result) {
+        return this.summarise(result);
+    }
+
+    private boolean isCached() {
+        return this.value >= CACHE_LOW && this.value - CACHE_LOW < CACHE.length
+                && CACHE[this.value - CACHE_LOW] == this;
+    }
+
+    /**
+     * Retrieve a literal with the given value. Since literals are immutable,
+     * instances with the same value are shared: small values are always pooled
+     * while the other ones are kept until a literal with a value of the same
+     * hash replaces them.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param value
+     *            The literal's value.
+     * @return The literal with the given value.
+     */
+    public static Integral literal(final int value) {
+        if (value >= CACHE_LOW && value - CACHE_LOW < CACHE.length)
+            return CACHE[value - CACHE_LOW];
+
+        final int slot = value * 0x9E3779B9 >>> 32 - POOL_BITS;
+        Integral literal = POOL.getAcquire(slot);
 
-        result.append(this.value);
+        if (literal == null || literal.value != value) {
+            literal = new Integral(null, true, value);
+            POOL.setRelease(slot, literal);
+        }
 
-        return result.toString();
+        return literal;
     }
 
     /**
@@ -163,4 +265,22 @@ public class Integral {
     public void redefine(final int value) throws IllegalAccessException {
         this.setValue(value);
     }
+
+    private StringBuilder summarise(final StringBuilder result) {
+        if (this.identifier != null)
+            result.append('\'').append(this.identifier).append("' ");
+        else
+            result.append("literal ");
+
+        if (this.getClass() == Integral.class)
+            result.append(TYPE);
+        else
+            result.append('(').append(this.getClass().getSimpleName())
+                    .append("): ");
+
+        if (this.isEternal)
+            result.append("eternal ");
+
+        return result.append(this.value);
+    }
 }
@@ -19,82 +19,261 @@
 
 package io.github.kevinmatthes.yal;
 
-import java.util.ArrayList;
-import java.util.Iterator;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.IntBuffer;
 
 /**
- * The YAL interpreter.
+ * The YAL interpreter. An instance only holds its immutable configuration while
+ * the state of each execution is kept in a context of its own, so a single
+ * instance may serve concurrent executions.
  *
  * @author Kevin Matthes
  * @version 0.1.0
  */
 public class Interpreter {
     /**
-     * The tokens to be processed. In case of an error, the current stack will
-     * be dumped to stderr.
+     * The state of a single execution.
      *
      * @author Kevin Matthes
      * @version 0.1.0
      */
-    final private ArrayList<Token> instructionStack;
+    final private static class Context {
+        /**
+         * The tokens to execute. The current instruction ranges from the mark
+         * to the position of this buffer.
+         *
+         * @author Kevin Matthes
+         * @version 0.1.0
+         */
+        final private TokenBuffer tokens;
+
+        /**
+         * The sink for the results of the executed instructions.
+         *
+         * @author Kevin Matthes
+         * @version 0.1.0
+         */
+        final private Appendable out;
+
+        /**
+         * The sink for the tokens of failed instructions.
+         *
+         * @author Kevin Matthes
+         * @version 0.1.0
+         */
+        final private Appendable err;
+
+        /**
+         * The results not yet passed to their sink.
+         *
+         * @author Kevin Matthes
+         * @version 0.1.0
+         */
+        final private StringBuilder output;
+
+        /**
+         * The failed tokens not yet passed to their sink.
+         *
+         * @author Kevin Matthes
+         * @version 0.1.0
+         */
+        final private StringBuilder errors;
+
+        /**
+         * The number of successful statements.
+         *
+         * @author Kevin Matthes
+         * @version 0.1.0
+         */
+        private int succeeded;
+
+        /**
+         * The number of failed statements.
+         *
+         * @author Kevin Matthes
+         * @version 0.1.0
+         */
+        private int failed;
+
+        /**
+         * The number of characters passed to the sinks.
+         *
+         * @author Kevin Matthes
+         * @version 0.1.0
+         */
+        private long characters;
+
+        /**
+         * Create a new context for the execution of the given tokens.
+         *
+         * @author Kevin Matthes
+         * @version 0.1.0
+         * @param tokens
+         *            The tokens to execute.
+         * @param out
+         *            The sink for the results of the executed instructions.
+         * @param err
+         *            The sink for the tokens of failed instructions.
+         */
+        private Context(final TokenBuffer tokens, final Appendable out,
+                final Appendable err) {
+            this.tokens = tokens;
+            this.out = out;
+            this.err = err;
+            this.output = new StringBuilder();
+            this.errors = new StringBuilder();
+            this.succeeded = 0;
+            this.failed = 0;
+            this.characters = 0;
+        }
+    }
+
+    /**
+     * The number of characters to buffer before passing them to a sink.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private static int FLUSH_THRESHOLD = 1 << 16;
 
     /**
-     * Create a new instance.
+     * The line separator to terminate each message with.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private static String NEWLINE = System.lineSeparator();
+
+    /**
+     * The default sink for the results of the executed instructions.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private Appendable out;
+
+    /**
+     * The default sink for the tokens of failed instructions.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private Appendable err;
+
+    /**
+     * Create a new instance writing to stdout and stderr.
      *
      * @author Kevin Matthes
      * @version 0.1.0
      */
     public Interpreter() {
-        this.instructionStack = new ArrayList<>();
+        this(System.out, System.err);
     }
 
-    private boolean clearStack() {
-        for (Token token : this.instructionStack) {
-            System.err.println(token.toString());
-        }
+    /**
+     * Create a new instance writing to the given sinks by default. The output
+     * is buffered and only passed to the sinks in large batches as well as at
+     * the end of each execution. Whenever the execution switches between
+     * results and failed instructions, the pending output of the other sink is
+     * passed first such that both keep their relative order, for instance on a
+     * shared terminal. Sinks shared by concurrent executions need to be
+     * thread-safe.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param out
+     *            The sink for the results of the executed instructions.
+     * @param err
+     *            The sink for the tokens of failed instructions.
+     */
+    public Interpreter(final Appendable out, final Appendable err) {
+        this.out = out;
+        this.err = err;
+    }
+
+    private static boolean clearStack(final Context context) {
+        final TokenBuffer tokens = context.tokens;
+
+        if (context.output.length() > 0)
+            context.characters += flush(context.output, context.out);
+
+        for (int i = tokens.getMark(); i < tokens.getPosition(); i++)
+            tokens.appendTo(context.errors, i).append(NEWLINE);
 
-        this.instructionStack.clear();
+        tokens.mark();
+        context.failed++;
+
+        if (context.errors.length() >= FLUSH_THRESHOLD)
+            context.characters += flush(context.errors, context.err);
 
         return false;
     }
 
-    private boolean describeIntegralInstance(final Token token)
-            throws NumberFormatException {
-        System.out.println(
-                new Integral(null, true, Integer.parseInt(token.getLexeme()))
-                        .describe());
-        this.instructionStack.clear();
+    private static boolean describeIntegralInstance(final Context context,
+            final int index) {
+        if (context.errors.length() > 0)
+            context.characters += flush(context.errors, context.err);
+
+        Integral.literal(context.tokens.getValue(index))
+                .describeTo(context.output).append(NEWLINE);
+        context.tokens.mark();
+        context.succeeded++;
+
+        if (context.output.length() >= FLUSH_THRESHOLD)
+            context.characters += flush(context.output, context.out);
 
         return true;
     }
 
-    private boolean handleDescribeInstruction(final Iterator<Token> token) {
-        if (token.hasNext()) {
-            Token next = token.next();
-            this.instructionStack.add(next);
+    private static int flush(final StringBuilder buffer, final Appendable sink)
+            throws UncheckedIOException {
+        final int length = buffer.length();
+
+        try {
+            sink.append(buffer);
+            buffer.setLength(0);
 
-            switch (next.getType()) {
+            if (sink instanceof Flushable)
+                ((Flushable) sink).flush();
+
+            return length;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean handleDescribeInstruction(final Context context) {
+        final TokenBuffer tokens = context.tokens;
+
+        if (tokens.hasNext()) {
+            final int next = tokens.next();
+
+            switch (tokens.getType(next)) {
                 case Integral :
-                    return this.describeIntegralInstance(next);
+                    return describeIntegralInstance(context, next);
 
                 default :
-                    return this.clearStack();
+                    return clearStack(context);
             }
         } else
-            return this.clearStack();
+            return clearStack(context);
     }
 
-    private boolean handleInstructionToken(final Iterator<Token> token) {
-        if (token.hasNext()) {
-            Token next = token.next();
-            this.instructionStack.add(next);
+    private static boolean handleInstructionToken(final Context context) {
+        final TokenBuffer tokens = context.tokens;
 
-            switch (next.getType()) {
+        if (tokens.hasNext()) {
+            final int next = tokens.next();
+
+            switch (tokens.getType(next)) {
                 case Describe :
-                    return this.handleDescribeInstruction(token);
+                    return handleDescribeInstruction(context);
 
                 default :
-                    return this.clearStack();
+                    return clearStack(context);
             }
         } else
             return true;
@@ -109,27 +288,230 @@ public class Interpreter {
      *            The source code to execute.
      * @return Whether the entire code could be executed successfully.
      */
-    public boolean run(String code) {
-        Lexer lexer = new Lexer();
-        lexer.lex(code);
-        Iterator<Token> token = lexer.getTokens().iterator();
+    public boolean run(final CharSequence code) {
+        return this.run(code, this.out, this.err);
+    }
+
+    /**
+     * Execute the given source code and write to the given sinks instead of the
+     * default ones.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param code
+     *            The source code to execute.
+     * @param out
+     *            The sink for the results of the executed instructions.
+     * @param err
+     *            The sink for the tokens of failed instructions.
+     * @return Whether the entire code could be executed successfully.
+     */
+    public boolean run(final CharSequence code, final Appendable out,
+            final Appendable err) {
+        return this.run(new Lexer().stream(code), out, err);
+    }
+
+    /**
+     * Execute the given compiled program.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param program
+     *            The program to execute.
+     * @return Whether the entire program could be executed successfully.
+     * @throws UncheckedIOException
+     *             if the output could not be passed to the sinks.
+     */
+    public boolean run(final Program program) throws UncheckedIOException {
+        return this.run(program, this.out, this.err);
+    }
+
+    /**
+     * Execute the given compiled program and write to the given sinks instead
+     * of the default ones.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param program
+     *            The program to execute.
+     * @param out
+     *            The sink for the results of the executed instructions.
+     * @param err
+     *            The sink for the tokens of failed instructions.
+     * @return Whether the entire program could be executed successfully.
+     * @throws IllegalArgumentException
+     *             if the program contains an unknown opcode.
+     * @throws UncheckedIOException
+     *             if the output could not be passed to the sinks.
+     */
+    public boolean run(final Program program, final Appendable out,
+            final Appendable err)
+            throws IllegalArgumentException, UncheckedIOException {
+        final IntBuffer code = program.getCode();
+        final CharSequence data = program.getData();
+        final int size = code.limit();
+        final long start = System.nanoTime();
+        StringBuilder output = new StringBuilder();
+        StringBuilder errors = new StringBuilder();
         boolean success = true;
+        int succeeded = 0;
+        int failed = 0;
+        long characters = 0;
 
-        while (token.hasNext()) {
-            Token next = token.next();
-            this.instructionStack.add(next);
+        try {
+            for (int i = 0; i < size;)
+                switch (code.get(i)) {
+                    case Program.DESCRIBE :
+                        if (errors.length() > 0)
+                            characters += flush(errors, err);
 
-            switch (next.getType()) {
-                case Instruction :
-                    success &= this.handleInstructionToken(token);
-                    break;
+                        Integral.literal(code.get(i + 1)).describeTo(output)
+                                .append(NEWLINE);
+                        succeeded++;
+                        i += 2;
 
-                default :
-                    success &= this.clearStack();
-                    break;
+                        if (output.length() >= FLUSH_THRESHOLD)
+                            characters += flush(output, out);
+
+                        break;
+
+                    case Program.ERROR :
+                        if (output.length() > 0)
+                            characters += flush(output, out);
+
+                        errors.append(data, code.get(i + 1),
+                                code.get(i + 1) + code.get(i + 2));
+                        success = false;
+                        failed++;
+                        i += 3;
+
+                        if (errors.length() >= FLUSH_THRESHOLD)
+                            characters += flush(errors, err);
+
+                        break;
+
+                    case Program.WRITE :
+                        if (errors.length() > 0)
+                            characters += flush(errors, err);
+
+                        characters += write(output, out, data, code.get(i + 1),
+                                code.get(i + 2));
+                        succeeded += code.get(i + 3);
+                        i += 4;
+                        break;
+
+                    default :
+                        throw new IllegalArgumentException(
+                                "Unknown opcode " + code.get(i) + ".");
+                }
+        } finally {
+            characters += flush(output, out) + flush(errors, err);
+            Metrics.getInstance().recordRun(succeeded, failed, characters,
+                    System.nanoTime() - start);
+        }
+
+        return success;
+    }
+
+    /**
+     * Execute the source code provided by the given reader. Each instruction is
+     * executed as soon as it was lexed.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param reader
+     *            The source of the source code to execute.
+     * @return Whether the entire code could be executed successfully.
+     * @throws IOException
+     *             if the source code could not be read.
+     */
+    public boolean run(final Reader reader) throws IOException {
+        try {
+            return this.run(new Lexer().stream(reader));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Execute the remaining tokens of the given buffer. In case of an error,
+     * the tokens of the current instruction will be dumped to stderr.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param tokens
+     *            The tokens to execute.
+     * @return Whether all tokens could be executed successfully.
+     * @throws UncheckedIOException
+     *             if the output could not be passed to the sinks.
+     */
+    public boolean run(final TokenBuffer tokens) throws UncheckedIOException {
+        return this.run(tokens, this.out, this.err);
+    }
+
+    /**
+     * Execute the remaining tokens of the given buffer and write to the given
+     * sinks instead of the default ones.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param tokens
+     *            The tokens to execute.
+     * @param out
+     *            The sink for the results of the executed instructions.
+     * @param err
+     *            The sink for the tokens of failed instructions.
+     * @return Whether all tokens could be executed successfully.
+     * @throws UncheckedIOException
+     *             if the output could not be passed to the sinks.
+     */
+    public boolean run(final TokenBuffer tokens, final Appendable out,
+            final Appendable err) throws UncheckedIOException {
+        final long start = System.nanoTime();
+        final Context context = new Context(tokens, out, err);
+        boolean success = true;
+        tokens.mark();
+
+        try {
+            while (tokens.hasNext()) {
+                final int next = tokens.next();
+
+                switch (tokens.getType(next)) {
+                    case Instruction :
+                        success &= handleInstructionToken(context);
+                        break;
+
+                    default :
+                        success &= clearStack(context);
+                        break;
+                }
             }
+        } finally {
+            context.characters += flush(context.output, out)
+                    + flush(context.errors, err);
+            Metrics.getInstance().recordRun(context.succeeded, context.failed,
+                    context.characters, System.nanoTime() - start);
         }
 
         return success;
     }
+
+    private static int write(final StringBuilder buffer, final Appendable sink,
+            final CharSequence text, final int offset, final int length)
+            throws UncheckedIOException {
+        if (buffer.length() + length < FLUSH_THRESHOLD) {
+            buffer.append(text, offset, offset + length);
+            return 0;
+        }
+
+        final int flushed = flush(buffer, sink);
+
+        try {
+            sink.append(text, offset, offset + length);
+
+            return flushed + length;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
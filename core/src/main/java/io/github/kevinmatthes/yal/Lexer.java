@@ -19,22 +19,36 @@
 
 package io.github.kevinmatthes.yal;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 /**
- * YAL's default tokeniser.
+ * YAL's default tokeniser. A carriage return separates tokens just like a
+ * space, wherever it occurs, such that CRLF line endings are accepted. Only
+ * newlines start a new line.
  *
  * @author Kevin Matthes
  * @version 0.1.0
  */
-public class Lexer {
+public class Lexer implements Iterable<Token> {
     /**
      * The recently detected tokens.
      *
      * @author Kevin Matthes
      * @version 0.1.0
      */
-    private ArrayList<Token> tokens;
+    final private TokenBuffer tokens;
 
     /**
      * Retrieve the recently detected tokens.
@@ -44,16 +58,126 @@ public class Lexer {
      * @return The recently detected tokens.
      */
     public ArrayList<Token> getTokens() {
+        ArrayList<Token> result = new ArrayList<>(
+                this.tokens.size() - this.tokens.getFirst());
+
+        for (int i = this.tokens.getFirst(); i < this.tokens.size(); i++)
+            result.add(this.tokens.getToken(i));
+
+        return result;
+    }
+
+    /**
+     * Retrieve the recently detected tokens without instantiating an object per
+     * token.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The recently detected tokens.
+     */
+    public TokenBuffer getTokenBuffer() {
         return this.tokens;
     }
 
     /**
-     * A work-in-progress token.
+     * The identifiers interned by this lexer, created on first use. They
+     * outlive resets such that each identifier keeps its symbol id across
+     * sources.
      *
      * @author Kevin Matthes
      * @version 0.1.0
      */
-    private Token pending;
+    private SymbolTable symbols;
+
+    /**
+     * Retrieve the identifiers interned by this lexer, creating the table if
+     * necessary.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The symbol table.
+     */
+    public SymbolTable getSymbols() {
+        if (this.symbols == null)
+            this.symbols = new SymbolTable();
+
+        return this.symbols;
+    }
+
+    /**
+     * The numbers of detected tokens not yet added to the metrics, indexed by
+     * their type's ordinal.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private int[] counts;
+
+    /**
+     * The index of the work-in-progress token's first character.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private int pending;
+
+    /**
+     * The column the work-in-progress token starts at.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private int pendingColumn;
+
+    /**
+     * The numeric value of the work-in-progress token, in case it is an
+     * integer.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private int pendingValue;
+
+    /**
+     * The characters of the work-in-progress token which were already processed
+     * as part of a previous chunk.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private StringBuilder carried;
+
+    /**
+     * The source code to lex on demand, if any.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private CharSequence input;
+
+    /**
+     * The number of characters of the input processed, so far.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private int consumed;
+
+    /**
+     * The stream to read further chunks of the input from, if any.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private Reader reader;
+
+    /**
+     * The buffer to read chunks of the input into.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private char[] chunk;
 
     /**
      * The current column.
@@ -71,6 +195,122 @@ public class Lexer {
      */
     private int line;
 
+    /**
+     * The lexer's progress regarding the pending token.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private int state;
+
+    /**
+     * The number of characters to read at once when processing a stream.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private static int CHUNK_SIZE = 8192;
+
+    /**
+     * The minimum number of characters per chunk when lexing in parallel.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private static int PARALLEL_CHUNK_SIZE = 1 << 16;
+
+    final private static int NEWLINE = 0;
+    final private static int SPACE = 1;
+    final private static int DASH = 2;
+    final private static int DIGIT = 3;
+    final private static int LETTER_B = 4;
+    final private static int LETTER_C = 5;
+    final private static int LETTER_D = 6;
+    final private static int LETTER_E = 7;
+    final private static int LETTER_I = 8;
+    final private static int LETTER_R = 9;
+    final private static int LETTER_S = 10;
+    final private static int OTHER = 11;
+
+    final private static int START = 0;
+    final private static int D = 1;
+    final private static int DE = 2;
+    final private static int DES = 3;
+    final private static int DESC = 4;
+    final private static int DESCR = 5;
+    final private static int DESCRI = 6;
+    final private static int DESCRIB = 7;
+    final private static int DESCRIBE = 8;
+    final private static int ERROR = 9;
+    final private static int INSTRUCTION = 10;
+    final private static int INTEGRAL = 11;
+
+    /**
+     * The character class of each ASCII character. Any other character is
+     * considered to be of class {@code OTHER}. Carriage returns are treated as
+     * spaces such that CRLF line endings are accepted.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private static byte[] CLASSES = new byte[128];
+
+    /**
+     * The token type a pending token is assigned when being finished in the
+     * respective state.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private static TokenType[] ACCEPTS = {null, TokenType.Error,
+            TokenType.Error, TokenType.Error, TokenType.Error, TokenType.Error,
+            TokenType.Error, TokenType.Error, TokenType.Describe,
+            TokenType.Error, TokenType.Instruction, TokenType.Integral};
+
+    /**
+     * The state to enter when consuming a character of the given class in the
+     * given state. Whitespace and dashes are handled separately since they
+     * always finish the pending token.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private static int[][] TRANSITIONS = new int[ACCEPTS.length][OTHER
+            + 1];
+
+    static {
+        Arrays.fill(CLASSES, (byte) OTHER);
+        CLASSES['\n'] = NEWLINE;
+        CLASSES['\r'] = SPACE;
+        CLASSES[' '] = SPACE;
+        CLASSES['-'] = DASH;
+
+        for (char c = '0'; c <= '9'; c++)
+            CLASSES[c] = DIGIT;
+
+        CLASSES['b'] = LETTER_B;
+        CLASSES['c'] = LETTER_C;
+        CLASSES['d'] = LETTER_D;
+        CLASSES['e'] = LETTER_E;
+        CLASSES['i'] = LETTER_I;
+        CLASSES['r'] = LETTER_R;
+        CLASSES['s'] = LETTER_S;
+
+        for (int[] row : TRANSITIONS)
+            Arrays.fill(row, ERROR);
+
+        TRANSITIONS[START][DIGIT] = INTEGRAL;
+        TRANSITIONS[START][LETTER_D] = D;
+        TRANSITIONS[D][LETTER_E] = DE;
+        TRANSITIONS[DE][LETTER_S] = DES;
+        TRANSITIONS[DES][LETTER_C] = DESC;
+        TRANSITIONS[DESC][LETTER_R] = DESCR;
+        TRANSITIONS[DESCR][LETTER_I] = DESCRI;
+        TRANSITIONS[DESCRI][LETTER_B] = DESCRIB;
+        TRANSITIONS[DESCRIB][LETTER_E] = DESCRIBE;
+        TRANSITIONS[INTEGRAL][DIGIT] = INTEGRAL;
+    }
+
     /**
      * Create a new instance.
      *
@@ -80,174 +320,468 @@ public class Lexer {
     public Lexer() {
         this.column = 1;
         this.line = 1;
-        this.pending = null;
-        this.tokens = new ArrayList<>();
+        this.pending = 0;
+        this.pendingColumn = 1;
+        this.pendingValue = 0;
+        this.carried = new StringBuilder();
+        this.input = null;
+        this.consumed = 0;
+        this.reader = null;
+        this.chunk = null;
+        this.state = START;
+        this.symbols = null;
+        this.counts = new int[TokenType.values().length];
+        this.tokens = new TokenBuffer() {
+            @Override
+            protected boolean produce() {
+                return Lexer.this.produce();
+            }
+        };
     }
 
-    private void assumeTypeIfNull(final TokenType type) {
-        if (this.pending.hasNoTypeYet())
-            this.pending.setType(type);
+    private void accumulate(final int digit) {
+        if (this.pendingValue > (Integer.MAX_VALUE - digit) / 10)
+            this.state = ERROR;
+        else
+            this.pendingValue = this.pendingValue * 10 + digit;
     }
 
-    private void breakLine() {
-        this.finishToken();
-        this.line++;
-        this.column = 1;
+    private void beginToken(final int offset) {
+        this.pending = offset;
+        this.pendingColumn = this.column;
+        this.pendingValue = 0;
     }
 
-    private void consume(final char character) {
-        if (this.pending != null)
-            this.pending.push(character);
+    private int consumeErrorRun(final CharSequence text, final int index,
+            final int to) {
+        final int end = indexOfDelimiter(text, index + 1, to);
+
+        this.column += end - index - 1;
 
-        this.column++;
+        return end - 1;
     }
 
-    private void convertToErrorToken(final char character) {
-        this.createTokenIfNull();
-        this.pending.setType(TokenType.Error);
-        this.consume(character);
+    private int consumeSpaceRun(final CharSequence text, final int index,
+            final int to) {
+        final int end = skipSpaces(text, index + 1, to);
+
+        this.column += end - index;
+
+        return end - 1;
     }
 
-    private void createTokenIfNull() {
-        if (this.pending == null)
-            this.pending = new Token(this.line, this.column);
+    /**
+     * Process the next chunk of the source code. In contrast to
+     * {@link #lex(CharSequence)}, a token at the end of the chunk is kept
+     * pending until the next chunk shows whether it is complete. Since the
+     * chunk might be reused by the caller, the lexemes are copied.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param chunk
+     *            The next part of the source code to process.
+     */
+    public void feed(final CharSequence chunk) {
+        this.tokens.own();
+        this.resume();
+        this.scan(chunk, 0, chunk.length(), false);
+        this.suspend(chunk, chunk.length());
+        this.publish();
     }
 
-    private void finishToken() {
-        if (this.pending != null) {
-            this.tokens.add(this.pending);
-            this.pending = null;
+    /**
+     * Complete the pending token, if any, after the last chunk was processed.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    public void finish() {
+        this.finishToken(this.carried, this.carried.length());
+        this.publish();
+    }
+
+    private void finishToken(final CharSequence text, final int end) {
+        if (this.state != START) {
+            final int value = this.state == INTEGRAL ? this.pendingValue : 0;
+
+            this.counts[ACCEPTS[this.state].ordinal()]++;
+
+            if (this.carried.length() == 0)
+                this.tokens.add(ACCEPTS[this.state], text, this.pending,
+                        end - this.pending, this.line, this.pendingColumn,
+                        value);
+            else {
+                if (text != this.carried)
+                    this.carried.append(text, this.pending, end);
+
+                this.tokens.add(ACCEPTS[this.state], this.carried, 0,
+                        this.carried.length(), this.line, this.pendingColumn,
+                        value);
+                this.carried.setLength(0);
+            }
+
+            this.state = START;
+        }
+    }
+
+    private static int indexOfDelimiter(final CharSequence text, final int from,
+            final int to) {
+        if (text instanceof AsciiSequence)
+            return ((AsciiSequence) text).indexOfDelimiter(from, to);
+
+        for (int i = from; i < to; i++) {
+            final char c = text.charAt(i);
+
+            if (c == '\n' || c == '\r' || c == ' ' || c == '-')
+                return i;
         }
+
+        return to;
     }
 
     /**
-     * Turn the given source code into tokens.
+     * Visit the tokens one after another, lexing the input bound by
+     * {@link #stream(CharSequence)} or {@link #stream(Reader)} on demand.
+     * Visited tokens are discarded as soon as the next one is requested.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return An iterator over the tokens.
+     */
+    @Override
+    public Iterator<Token> iterator() {
+        return new Iterator<Token>() {
+            @Override
+            public boolean hasNext() {
+                return Lexer.this.tokens.hasNext();
+            }
+
+            @Override
+            public Token next() throws NoSuchElementException {
+                if (!this.hasNext())
+                    throw new NoSuchElementException("no tokens left");
+
+                Lexer.this.tokens.mark();
+
+                return Lexer.this.tokens.getToken(Lexer.this.tokens.next());
+            }
+        };
+    }
+
+    /**
+     * Turn the given source code into tokens. The tokens refer to their lexemes
+     * within the given source code instead of copying them.
      *
      * @author Kevin Matthes
      * @version 0.1.0
      * @param text
      *            The source code to process.
      */
-    public void lex(final String text) {
-        for (int i = 0; i < text.length(); i++) {
-            char current = text.charAt(i);
+    public void lex(final CharSequence text) {
+        final long start = System.nanoTime();
+
+        this.resume();
+        this.scan(text, 0, text.length(), false);
+        this.finishToken(text, text.length());
+        this.publish();
+        Metrics.getInstance().recordLex(System.nanoTime() - start);
+    }
 
-            switch (current) {
-                case '\n' :
-                    this.breakLine();
-                    break;
+    /**
+     * Turn the given source code into tokens using the given pool. Since no
+     * token spans multiple lines, the source code is split into chunks at line
+     * breaks which are lexed concurrently. The resulting tokens are identical
+     * to the ones of {@link #lex(CharSequence)}.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param text
+     *            The source code to process.
+     * @param pool
+     *            The pool to lex the chunks with.
+     */
+    public void lex(final CharSequence text, final ForkJoinPool pool) {
+        final long begin = System.nanoTime();
+        final int length = text.length();
+        final int chunks = Math.min(pool.getParallelism() * 4,
+                length / PARALLEL_CHUNK_SIZE);
+
+        if (chunks < 2 || this.state != START || this.column != 1) {
+            this.lex(text);
+            return;
+        }
 
-                case ' ' :
-                    this.finishToken();
-                    this.consume(current);
-                    break;
+        ArrayList<ForkJoinTask<Lexer>> tasks = new ArrayList<>(chunks);
+        int from = 0;
+
+        for (int i = 1; i <= chunks && from < length; i++) {
+            final int start = from;
+            final int end = i == chunks
+                    ? length
+                    : nextLine(text, (int) ((long) length * i / chunks));
+
+            if (end > start) {
+                tasks.add(pool.submit(() -> {
+                    Lexer chunk = new Lexer();
+                    chunk.scan(text, start, end, false);
+                    chunk.finishToken(text, end);
+                    return chunk;
+                }));
+                from = end;
+            }
+        }
 
-                case '-' :
-                    this.finishToken();
-                    this.createTokenIfNull();
-                    this.assumeTypeIfNull(TokenType.Instruction);
-                    this.consume(current);
-                    this.finishToken();
-                    break;
+        for (ForkJoinTask<Lexer> task : tasks) {
+            final Lexer chunk = task.join();
 
-                case '0' :
-                case '1' :
-                case '2' :
-                case '3' :
-                case '4' :
-                case '5' :
-                case '6' :
-                case '7' :
-                case '8' :
-                case '9' :
-                    this.createTokenIfNull();
-                    this.assumeTypeIfNull(TokenType.Integral);
-
-                    switch (this.pending.getType()) {
-                        case Integral :
-                            this.consume(current);
-                            break;
-
-                        default :
-                            this.convertToErrorToken(current);
-                    }
-                    break;
+            this.tokens.append(chunk.tokens, this.line - 1);
+            this.line += chunk.line - 1;
+            this.column = chunk.column;
 
-                case 'b' :
-                    this.createTokenIfNull();
+            for (int i = 0; i < this.counts.length; i++)
+                this.counts[i] += chunk.counts[i];
+        }
 
-                    if (this.pending.getLexeme().equals("descri"))
-                        this.consume(current);
-                    else
-                        this.convertToErrorToken(current);
-                    break;
+        this.publish();
+        Metrics.getInstance().recordLex(System.nanoTime() - begin);
+    }
 
-                case 'c' :
-                    this.createTokenIfNull();
+    /**
+     * Turn the source code provided by the given reader into tokens. The source
+     * code is processed in chunks of a fixed size such that it never needs to
+     * be held in memory as a whole.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param reader
+     *            The source of the source code to process.
+     * @throws IOException
+     *             if the source code could not be read.
+     */
+    public void lex(final Reader reader) throws IOException {
+        final char[] buffer = new char[CHUNK_SIZE];
+        final CharBuffer chunk = CharBuffer.wrap(buffer);
+        int length;
+
+        while ((length = reader.read(buffer)) != -1) {
+            chunk.limit(length);
+            this.feed(chunk);
+        }
 
-                    if (this.pending.getLexeme().equals("des"))
-                        this.consume(current);
-                    else
-                        this.convertToErrorToken(current);
-                    break;
+        this.finish();
+    }
+
+    /**
+     * Turn the source code provided by the given channel into tokens. The
+     * source code is expected to be encoded in UTF-8.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param channel
+     *            The source of the source code to process.
+     * @throws IOException
+     *             if the source code could not be read.
+     */
+    public void lex(final ReadableByteChannel channel) throws IOException {
+        this.lex(Channels.newReader(channel, StandardCharsets.UTF_8));
+    }
 
-                case 'd' :
-                    this.createTokenIfNull();
+    private static int nextLine(final CharSequence text, final int from) {
+        final int length = text.length();
 
-                    if (this.pending.getLexeme().equals("")) {
-                        this.assumeTypeIfNull(TokenType.Error);
-                        this.consume(current);
-                    } else
-                        this.convertToErrorToken(current);
-                    break;
+        for (int i = from; i < length; i++)
+            if (text.charAt(i) == '\n')
+                return i + 1;
 
-                case 'e' :
-                    this.createTokenIfNull();
-
-                    if (this.pending.getLexeme().equals("d"))
-                        this.consume(current);
-                    else if (this.pending.getLexeme().equals("describ")) {
-                        this.consume(current);
-                        this.pending.setType(TokenType.Describe);
-                        this.finishToken();
-                    } else
-                        this.convertToErrorToken(current);
-                    break;
+        return length;
+    }
 
-                case 'i' :
-                    this.createTokenIfNull();
+    private void publish() {
+        Metrics.getInstance().recordTokens(this.counts);
+        Arrays.fill(this.counts, 0);
+    }
 
-                    if (this.pending.getLexeme().equals("descr"))
-                        this.consume(current);
-                    else
-                        this.convertToErrorToken(current);
-                    break;
+    private boolean produce() throws UncheckedIOException {
+        final int before = this.tokens.size();
+
+        if (this.input != null)
+            this.tokens.discard();
+
+        while (this.tokens.size() == before && this.input != null)
+            if (this.consumed < this.input.length())
+                this.consumed = this.scan(this.input, this.consumed,
+                        this.input.length(), true);
+            else if (this.reader != null)
+                this.readChunk();
+            else {
+                this.finishToken(this.input, this.input.length());
+                this.input = null;
+                this.publish();
+            }
+
+        return this.tokens.size() != before;
+    }
+
+    private void readChunk() throws UncheckedIOException {
+        this.suspend(this.input, this.input.length());
+
+        try {
+            int length = this.reader.read(this.chunk);
+
+            if (length == -1) {
+                this.reader = null;
+                length = 0;
+            }
+
+            this.input = CharBuffer.wrap(this.chunk, 0, length);
+            this.consumed = 0;
+            this.resume();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 
-                case 'r' :
-                    this.createTokenIfNull();
+    /**
+     * Forget all tokens and any pending input in order to lex another source
+     * from its beginning. The allocated buffers are kept for reuse.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    public void reset() {
+        this.publish();
+        this.tokens.clear();
+        this.column = 1;
+        this.line = 1;
+        this.pending = 0;
+        this.pendingColumn = 1;
+        this.pendingValue = 0;
+        this.carried.setLength(0);
+        this.input = null;
+        this.consumed = 0;
+        this.reader = null;
+        this.state = START;
+    }
+
+    private void resume() {
+        if (this.state != START)
+            this.pending = 0;
+    }
 
-                    if (this.pending.getLexeme().equals("desc"))
-                        this.consume(current);
-                    else
-                        this.convertToErrorToken(current);
+    private int scan(final CharSequence text, final int from, final int to,
+            final boolean lazy) {
+        final int before = this.tokens.size();
+
+        for (int i = from; i < to; i++) {
+            final char current = text.charAt(i);
+            final int kind = current < CLASSES.length
+                    ? CLASSES[current]
+                    : OTHER;
+
+            switch (kind) {
+                case NEWLINE :
+                    this.finishToken(text, i);
+                    this.line++;
+                    this.column = 1;
                     break;
 
-                case 's' :
-                    this.createTokenIfNull();
+                case SPACE :
+                    this.finishToken(text, i);
+                    i = this.consumeSpaceRun(text, i, to);
+                    break;
 
-                    if (this.pending.getLexeme().equals("de"))
-                        this.consume(current);
-                    else
-                        this.convertToErrorToken(current);
+                case DASH :
+                    this.finishToken(text, i);
+                    this.beginToken(i);
+                    this.state = INSTRUCTION;
+                    this.column++;
+                    this.finishToken(text, i + 1);
                     break;
 
                 default :
-                    this.convertToErrorToken(current);
+                    if (this.state == START)
+                        this.beginToken(i);
+
+                    this.state = TRANSITIONS[this.state][kind];
+                    this.column++;
+
+                    if (this.state == INTEGRAL)
+                        this.accumulate(current - '0');
+
+                    if (this.state == DESCRIBE)
+                        this.finishToken(text, i + 1);
+
+                    if (this.state == ERROR)
+                        i = this.consumeErrorRun(text, i, to);
                     break;
             }
+
+            if (lazy && this.tokens.size() != before)
+                return i + 1;
         }
 
-        this.finishToken();
+        return to;
+    }
+
+    /**
+     * Bind the given source code to be lexed on demand. Instead of processing
+     * the entire source code at once, just as many characters are processed as
+     * are required to provide the next token when visiting the returned buffer.
+     * Tokens before the current instruction are discarded meanwhile.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param text
+     *            The source code to process.
+     * @return The buffer providing the tokens.
+     */
+    public TokenBuffer stream(final CharSequence text) {
+        this.input = text;
+        this.consumed = 0;
+        this.reader = null;
+        this.resume();
+
+        return this.tokens;
+    }
+
+    /**
+     * Bind the source code provided by the given reader to be lexed on demand.
+     * The source code is read in chunks of a fixed size whenever the returned
+     * buffer runs out of tokens.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param reader
+     *            The source of the source code to process.
+     * @return The buffer providing the tokens.
+     * @see #stream(CharSequence)
+     */
+    public TokenBuffer stream(final Reader reader) {
+        this.tokens.own();
+        this.chunk = new char[CHUNK_SIZE];
+        this.input = CharBuffer.wrap(this.chunk, 0, 0);
+        this.consumed = 0;
+        this.reader = reader;
+
+        return this.tokens;
+    }
+
+    private static int skipSpaces(final CharSequence text, final int from,
+            final int to) {
+        if (text instanceof AsciiSequence)
+            return ((AsciiSequence) text).skipSpaces(from, to);
+
+        int i = from;
+
+        while (i < to && text.charAt(i) == ' ')
+            i++;
+
+        return i;
+    }
+
+    private void suspend(final CharSequence chunk, final int end) {
+        if (this.state != START)
+            this.carried.append(chunk, this.pending, end);
     }
 
     /**
@@ -260,9 +794,8 @@ public class Lexer {
         StringBuilder result = new StringBuilder();
         result.append("");
 
-        for (Token token : this.tokens) {
-            result.append(token.toString() + "\n");
-        }
+        for (int i = this.tokens.getFirst(); i < this.tokens.size(); i++)
+            this.tokens.appendTo(result, i).append('\n');
 
         return result.toString();
     }
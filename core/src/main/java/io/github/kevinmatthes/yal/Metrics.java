@@ -0,0 +1,372 @@
+/*********************** GNU General Public License 3.0 ***********************\
+|                                                                              |
+|  Copyright (C) 2024 Kevin Matthes                                            |
+|                                                                              |
+|  This program is free software: you can redistribute it and/or modify        |
+|  it under the terms of the GNU General Public License as published by        |
+|  the Free Software Foundation, either version 3 of the License, or           |
+|  (at your option) any later version.                                         |
+|                                                                              |
+|  This program is distributed in the hope that it will be useful,             |
+|  but WITHOUT ANY WARRANTY; without even the implied warranty of              |
+|  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               |
+|  GNU General Public License for more details.                                |
+|                                                                              |
+|  You should have received a copy of the GNU General Public License           |
+|  along with this program.  If not, see <https://www.gnu.org/licenses/>.      |
+|                                                                              |
+\******************************************************************************/
+
+package io.github.kevinmatthes.yal;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * YAL's runtime metrics. The lexer and the interpreter collect their counts
+ * locally and add them to the shared counters once per call, so the hot loops
+ * are not slowed down by contended updates. Since connecting to the platform
+ * MBean server takes noticeable time, the metrics are only exposed via JMX
+ * after {@link #register()} was called.
+ *
+ * @author Kevin Matthes
+ * @version 0.1.0
+ */
+public class Metrics implements MetricsMXBean {
+    /**
+     * The name the metrics are exposed under.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final public static String NAME = "io.github.kevinmatthes.yal:type=Metrics";
+
+    /**
+     * The only instance.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private static Metrics INSTANCE = new Metrics();
+
+    /**
+     * Retrieve the only instance.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The metrics.
+     */
+    public static Metrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * The numbers of lexed tokens indexed by their type's ordinal.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private LongAdder[] tokens;
+
+    /**
+     * The number of completed calls lexing an entire source at once.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private LongAdder lexCalls;
+
+    /**
+     * The nanoseconds spent lexing entire sources at once.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private LongAdder lexTime;
+
+    /**
+     * The number of completed executions.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private LongAdder runs;
+
+    /**
+     * The nanoseconds spent executing.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private LongAdder runTime;
+
+    /**
+     * The number of successful statements.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private LongAdder succeeded;
+
+    /**
+     * The number of failed statements.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private LongAdder failed;
+
+    /**
+     * The number of characters passed to the output sinks.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private LongAdder characters;
+
+    /**
+     * Create the only instance.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private Metrics() {
+        this.tokens = new LongAdder[TokenType.values().length];
+        this.lexCalls = new LongAdder();
+        this.lexTime = new LongAdder();
+        this.runs = new LongAdder();
+        this.runTime = new LongAdder();
+        this.succeeded = new LongAdder();
+        this.failed = new LongAdder();
+        this.characters = new LongAdder();
+
+        for (int i = 0; i < this.tokens.length; i++)
+            this.tokens[i] = new LongAdder();
+    }
+
+    /**
+     * Retrieve the number of lexed description keywords.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The number of describe tokens.
+     */
+    @Override
+    public long getDescribeTokens() {
+        return this.tokens[TokenType.Describe.ordinal()].sum();
+    }
+
+    /**
+     * Retrieve the number of lexed error tokens.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The number of error tokens.
+     */
+    @Override
+    public long getErrorTokens() {
+        return this.tokens[TokenType.Error.ordinal()].sum();
+    }
+
+    /**
+     * Retrieve the number of failed statements.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The number of statements whose tokens were dumped.
+     */
+    @Override
+    public long getFailedStatements() {
+        return this.failed.sum();
+    }
+
+    /**
+     * Retrieve the number of lexed instruction tokens.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The number of instruction tokens.
+     */
+    @Override
+    public long getInstructionTokens() {
+        return this.tokens[TokenType.Instruction.ordinal()].sum();
+    }
+
+    /**
+     * Retrieve the number of lexed integral tokens.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The number of integral tokens.
+     */
+    @Override
+    public long getIntegralTokens() {
+        return this.tokens[TokenType.Integral.ordinal()].sum();
+    }
+
+    /**
+     * Retrieve the number of completed calls lexing an entire source at once.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The number of lexing calls.
+     */
+    @Override
+    public long getLexCalls() {
+        return this.lexCalls.sum();
+    }
+
+    /**
+     * Retrieve the time spent lexing entire sources at once.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The time in nanoseconds.
+     */
+    @Override
+    public long getLexTime() {
+        return this.lexTime.sum();
+    }
+
+    /**
+     * Retrieve the number of characters passed to the output sinks.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The number of characters of results and failed tokens.
+     */
+    @Override
+    public long getOutputCharacters() {
+        return this.characters.sum();
+    }
+
+    /**
+     * Retrieve the number of completed executions.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The number of executions.
+     */
+    @Override
+    public long getRuns() {
+        return this.runs.sum();
+    }
+
+    /**
+     * Retrieve the time spent executing, including lexing on demand.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The time in nanoseconds.
+     */
+    @Override
+    public long getRunTime() {
+        return this.runTime.sum();
+    }
+
+    /**
+     * Retrieve the number of successful statements.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The number of executed descriptions.
+     */
+    @Override
+    public long getSucceededStatements() {
+        return this.succeeded.sum();
+    }
+
+    /**
+     * Add a completed call lexing an entire source at once.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param nanos
+     *            The time the call took.
+     */
+    void recordLex(final long nanos) {
+        this.lexCalls.increment();
+        this.lexTime.add(nanos);
+    }
+
+    /**
+     * Add a completed execution.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param succeeded
+     *            The number of successful statements.
+     * @param failed
+     *            The number of failed statements.
+     * @param characters
+     *            The number of characters passed to the output sinks.
+     * @param nanos
+     *            The time the execution took.
+     */
+    void recordRun(final int succeeded, final int failed, final long characters,
+            final long nanos) {
+        this.runs.increment();
+        this.runTime.add(nanos);
+        this.succeeded.add(succeeded);
+        this.failed.add(failed);
+        this.characters.add(characters);
+    }
+
+    /**
+     * Add lexed tokens.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param counts
+     *            The numbers of tokens indexed by their type's ordinal.
+     */
+    void recordTokens(final int[] counts) {
+        for (int i = 0; i < counts.length; i++)
+            if (counts[i] != 0)
+                this.tokens[i].add(counts[i]);
+    }
+
+    /**
+     * Expose the metrics via the platform MBean server, unless they are exposed
+     * already.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @throws IllegalStateException
+     *             if the metrics could not be registered.
+     */
+    public static void register() throws IllegalStateException {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(INSTANCE,
+                    new ObjectName(NAME));
+        } catch (InstanceAlreadyExistsException e) {
+            return;
+        } catch (JMException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Reset all counters to zero.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Override
+    public void reset() {
+        for (LongAdder counter : this.tokens)
+            counter.reset();
+
+        this.lexCalls.reset();
+        this.lexTime.reset();
+        this.runs.reset();
+        this.runTime.reset();
+        this.succeeded.reset();
+        this.failed.reset();
+        this.characters.reset();
+    }
+}
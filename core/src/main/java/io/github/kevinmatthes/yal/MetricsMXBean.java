@@ -0,0 +1,135 @@
+/*********************** GNU General Public License 3.0 ***********************\
+|                                                                              |
+|  Copyright (C) 2024 Kevin Matthes                                            |
+|                                                                              |
+|  This program is free software: you can redistribute it and/or modify        |
+|  it under the terms of the GNU General Public License as published by        |
+|  the Free Software Foundation, either version 3 of the License, or           |
+|  (at your option) any later version.                                         |
+|                                                                              |
+|  This program is distributed in the hope that it will be useful,             |
+|  but WITHOUT ANY WARRANTY; without even the implied warranty of              |
+|  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               |
+|  GNU General Public License for more details.                                |
+|                                                                              |
+|  You should have received a copy of the GNU General Public License           |
+|  along with this program.  If not, see <https://www.gnu.org/licenses/>.      |
+|                                                                              |
+\******************************************************************************/
+
+package io.github.kevinmatthes.yal;
+
+/**
+ * The management interface of YAL's runtime metrics.
+ *
+ * @author Kevin Matthes
+ * @version 0.1.0
+ */
+public interface MetricsMXBean {
+    /**
+     * Retrieve the number of lexed description keywords.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The number of describe tokens.
+     */
+    long getDescribeTokens();
+
+    /**
+     * Retrieve the number of lexed error tokens.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The number of error tokens.
+     */
+    long getErrorTokens();
+
+    /**
+     * Retrieve the number of failed statements.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The number of statements whose tokens were dumped.
+     */
+    long getFailedStatements();
+
+    /**
+     * Retrieve the number of lexed instruction tokens.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The number of instruction tokens.
+     */
+    long getInstructionTokens();
+
+    /**
+     * Retrieve the number of lexed integral tokens.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The number of integral tokens.
+     */
+    long getIntegralTokens();
+
+    /**
+     * Retrieve the number of completed calls lexing an entire source at once.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The number of lexing calls.
+     */
+    long getLexCalls();
+
+    /**
+     * Retrieve the time spent lexing entire sources at once.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The time in nanoseconds.
+     */
+    long getLexTime();
+
+    /**
+     * Retrieve the number of characters passed to the output sinks.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The number of characters of results and failed tokens.
+     */
+    long getOutputCharacters();
+
+    /**
+     * Retrieve the number of completed executions.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The number of executions.
+     */
+    long getRuns();
+
+    /**
+     * Retrieve the time spent executing, including lexing on demand.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The time in nanoseconds.
+     */
+    long getRunTime();
+
+    /**
+     * Retrieve the number of successful statements.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The number of executed descriptions.
+     */
+    long getSucceededStatements();
+
+    /**
+     * Reset all counters to zero.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    void reset();
+}
@@ -0,0 +1,265 @@
+/*********************** GNU General Public License 3.0 ***********************\
+|                                                                              |
+|  Copyright (C) 2024 Kevin Matthes                                            |
+|                                                                              |
+|  This program is free software: you can redistribute it and/or modify        |
+|  it under the terms of the GNU General Public License as published by        |
+|  the Free Software Foundation, either version 3 of the License, or           |
+|  (at your option) any later version.                                         |
+|                                                                              |
+|  This program is distributed in the hope that it will be useful,             |
+|  but WITHOUT ANY WARRANTY; without even the implied warranty of              |
+|  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               |
+|  GNU General Public License for more details.                                |
+|                                                                              |
+|  You should have received a copy of the GNU General Public License           |
+|  along with this program.  If not, see <https://www.gnu.org/licenses/>.      |
+|                                                                              |
+\******************************************************************************/
+
+package io.github.kevinmatthes.yal;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * A compiled YAL program. The code is a sequence of instructions, each of which
+ * consists of an opcode followed by its operands. Texts referred to by the
+ * instructions are stored in a separate data section.
+ *
+ * <p>
+ * A program can be stored in a binary file with a header of four big-endian
+ * integers: the magic number, the format version, the number of code elements
+ * and the number of data characters. The code elements follow as big-endian
+ * integers and the data section as big-endian UTF-16 characters.
+ *
+ * @author Kevin Matthes
+ * @version 0.1.0
+ */
+public class Program {
+    /**
+     * Describe the literal given by the only operand.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final public static int DESCRIBE = 0;
+
+    /**
+     * Report a failed instruction. The operands are the offset and the length
+     * of the dumped tokens within the data section.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final public static int ERROR = 1;
+
+    /**
+     * Write a precomputed output. The operands are the offset and the length of
+     * the text within the data section as well as the number of statements it
+     * was precomputed from.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final public static int WRITE = 2;
+
+    /**
+     * The magic number identifying binary program files, spelling "YALC".
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private static int MAGIC = 0x59414C43;
+
+    /**
+     * The version of the binary file format.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private static int VERSION = 3;
+
+    /**
+     * The number of bytes of a binary file's header.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private static int HEADER_SIZE = 4 * Integer.BYTES;
+
+    /**
+     * The instructions.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private IntBuffer code;
+
+    /**
+     * Retrieve the instructions.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The instructions.
+     */
+    public IntBuffer getCode() {
+        return this.code;
+    }
+
+    /**
+     * The texts referred to by the instructions.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private CharSequence data;
+
+    /**
+     * Retrieve the texts referred to by the instructions.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The data section.
+     */
+    public CharSequence getData() {
+        return this.data;
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param code
+     *            The instructions, ranging from index 0 to the buffer's limit.
+     * @param data
+     *            The texts referred to by the instructions.
+     */
+    public Program(final IntBuffer code, final CharSequence data) {
+        this.code = code;
+        this.data = data;
+    }
+
+    private static boolean isValid(final IntBuffer code, final int dataLength) {
+        final int size = code.limit();
+
+        for (int i = 0; i < size;)
+            switch (code.get(i)) {
+                case DESCRIBE :
+                    if (size - i < 2)
+                        return false;
+
+                    i += 2;
+                    break;
+
+                case ERROR :
+                    if (size - i < 3 || !isText(code.get(i + 1),
+                            code.get(i + 2), dataLength))
+                        return false;
+
+                    i += 3;
+                    break;
+
+                case WRITE :
+                    if (size - i < 4 || !isText(code.get(i + 1),
+                            code.get(i + 2), dataLength) || code.get(i + 3) < 0)
+                        return false;
+
+                    i += 4;
+                    break;
+
+                default :
+                    return false;
+            }
+
+        return true;
+    }
+
+    private static boolean isText(final int offset, final int length,
+            final int dataLength) {
+        return offset >= 0 && length >= 0 && length <= dataLength - offset;
+    }
+
+    /**
+     * Map the given binary program file into memory. The returned program reads
+     * its sections directly from the mapping. The instructions are checked to
+     * be complete and to refer to texts within the data section only.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param path
+     *            The file to map.
+     * @return The mapped program.
+     * @throws IOException
+     *             if the file could not be read or is no valid program file of
+     *             the current format version, such as a corrupted one.
+     */
+    public static Program map(final Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path)) {
+            final long size = channel.size();
+
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE)
+                throw new IOException(path + " is no program file.");
+
+            final ByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY,
+                    0, size);
+            final int codeLength = bytes.getInt(2 * Integer.BYTES);
+            final int dataLength = bytes.getInt(3 * Integer.BYTES);
+
+            if (bytes.getInt(0) != MAGIC
+                    || bytes.getInt(Integer.BYTES) != VERSION || codeLength < 0
+                    || dataLength < 0
+                    || size != HEADER_SIZE + (long) codeLength * Integer.BYTES
+                            + (long) dataLength * Character.BYTES)
+                throw new IOException(path + " is no program file.");
+
+            final int dataOffset = HEADER_SIZE + codeLength * Integer.BYTES;
+            final IntBuffer code = bytes
+                    .slice(HEADER_SIZE, codeLength * Integer.BYTES)
+                    .asIntBuffer();
+
+            if (!isValid(code, dataLength))
+                throw new IOException(path + " is no valid program.");
+
+            return new Program(code,
+                    bytes.slice(dataOffset, dataLength * Character.BYTES)
+                            .asCharBuffer());
+        }
+    }
+
+    /**
+     * Store this program in the given binary file.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param path
+     *            The file to write to.
+     * @throws IOException
+     *             if the file could not be written.
+     */
+    public void write(final Path path) throws IOException {
+        final int codeLength = this.code.limit();
+        final int dataLength = this.data.length();
+
+        try (DataOutputStream stream = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(path)))) {
+            stream.writeInt(MAGIC);
+            stream.writeInt(VERSION);
+            stream.writeInt(codeLength);
+            stream.writeInt(dataLength);
+
+            for (int i = 0; i < codeLength; i++)
+                stream.writeInt(this.code.get(i));
+
+            for (int i = 0; i < dataLength; i++)
+                stream.writeChar(this.data.charAt(i));
+        }
+    }
+}
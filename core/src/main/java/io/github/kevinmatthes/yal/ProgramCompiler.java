@@ -0,0 +1,186 @@
+/*********************** GNU General Public License 3.0 ***********************\
+|                                                                              |
+|  Copyright (C) 2024 Kevin Matthes                                            |
+|                                                                              |
+|  This program is free software: you can redistribute it and/or modify        |
+|  it under the terms of the GNU General Public License as published by        |
+|  the Free Software Foundation, either version 3 of the License, or           |
+|  (at your option) any later version.                                         |
+|                                                                              |
+|  This program is distributed in the hope that it will be useful,             |
+|  but WITHOUT ANY WARRANTY; without even the implied warranty of              |
+|  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               |
+|  GNU General Public License for more details.                                |
+|                                                                              |
+|  You should have received a copy of the GNU General Public License           |
+|  along with this program.  If not, see <https://www.gnu.org/licenses/>.      |
+|                                                                              |
+\******************************************************************************/
+
+package io.github.kevinmatthes.yal;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/**
+ * The YAL compiler. It translates tokens into a {@link Program} which can be
+ * executed repeatedly without lexing and parsing the source code, again. An
+ * instance must not be shared by concurrent compilations.
+ *
+ * @author Kevin Matthes
+ * @version 0.1.0
+ */
+public class ProgramCompiler {
+    /**
+     * The line separator to terminate each message with.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private static String NEWLINE = System.lineSeparator();
+
+    /**
+     * The instructions emitted so far.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private int[] code;
+
+    /**
+     * The number of used elements of the instructions.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private int size;
+
+    /**
+     * The texts referred to by the instructions emitted so far.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private StringBuilder data;
+
+    /**
+     * Create a new instance.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    public ProgramCompiler() {
+        this.code = new int[64];
+        this.size = 0;
+        this.data = new StringBuilder();
+    }
+
+    private boolean clearStack(final TokenBuffer tokens) {
+        final int offset = this.data.length();
+
+        for (int i = tokens.getMark(); i < tokens.getPosition(); i++)
+            tokens.appendTo(this.data, i).append(NEWLINE);
+
+        tokens.mark();
+        this.emit(Program.ERROR, offset, this.data.length() - offset);
+
+        return false;
+    }
+
+    /**
+     * Compile the given source code.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param code
+     *            The source code to compile.
+     * @return The compiled program.
+     */
+    public Program compile(final CharSequence code) {
+        return this.compile(new Lexer().stream(code));
+    }
+
+    /**
+     * Compile the remaining tokens of the given buffer. Failing instructions
+     * are compiled into error reports such that executing the program yields
+     * the same output as interpreting the tokens.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param tokens
+     *            The tokens to compile.
+     * @return The compiled program.
+     */
+    public Program compile(final TokenBuffer tokens) {
+        this.size = 0;
+        this.data.setLength(0);
+        tokens.mark();
+
+        while (tokens.hasNext()) {
+            final int next = tokens.next();
+
+            switch (tokens.getType(next)) {
+                case Instruction :
+                    this.handleInstructionToken(tokens);
+                    break;
+
+                default :
+                    this.clearStack(tokens);
+                    break;
+            }
+        }
+
+        return new Program(IntBuffer.wrap(Arrays.copyOf(this.code, this.size)),
+                this.data.toString());
+    }
+
+    private void emit(final int opcode, final int operand) {
+        this.reserve(2);
+        this.code[this.size++] = opcode;
+        this.code[this.size++] = operand;
+    }
+
+    private void emit(final int opcode, final int first, final int second) {
+        this.reserve(3);
+        this.code[this.size++] = opcode;
+        this.code[this.size++] = first;
+        this.code[this.size++] = second;
+    }
+
+    private boolean handleDescribeInstruction(final TokenBuffer tokens) {
+        if (tokens.hasNext()) {
+            final int next = tokens.next();
+
+            switch (tokens.getType(next)) {
+                case Integral :
+                    this.emit(Program.DESCRIBE, tokens.getValue(next));
+                    tokens.mark();
+                    return true;
+
+                default :
+                    return this.clearStack(tokens);
+            }
+        } else
+            return this.clearStack(tokens);
+    }
+
+    private boolean handleInstructionToken(final TokenBuffer tokens) {
+        if (tokens.hasNext()) {
+            final int next = tokens.next();
+
+            switch (tokens.getType(next)) {
+                case Describe :
+                    return this.handleDescribeInstruction(tokens);
+
+                default :
+                    return this.clearStack(tokens);
+            }
+        } else
+            return true;
+    }
+
+    private void reserve(final int length) {
+        if (this.size + length > this.code.length)
+            this.code = Arrays.copyOf(this.code, this.code.length << 1);
+    }
+}
@@ -0,0 +1,158 @@
+/*********************** GNU General Public License 3.0 ***********************\
+|                                                                              |
+|  Copyright (C) 2024 Kevin Matthes                                            |
+|                                                                              |
+|  This program is free software: you can redistribute it and/or modify        |
+|  it under the terms of the GNU General Public License as published by        |
+|  the Free Software Foundation, either version 3 of the License, or           |
+|  (at your option) any later version.                                         |
+|                                                                              |
+|  This program is distributed in the hope that it will be useful,             |
+|  but WITHOUT ANY WARRANTY; without even the implied warranty of              |
+|  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               |
+|  GNU General Public License for more details.                                |
+|                                                                              |
+|  You should have received a copy of the GNU General Public License           |
+|  along with this program.  If not, see <https://www.gnu.org/licenses/>.      |
+|                                                                              |
+\******************************************************************************/
+
+package io.github.kevinmatthes.yal;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/**
+ * The YAL program optimiser. It precomputes the output of instructions only
+ * depending on literals such that executing the program mostly writes the
+ * precomputed text. An instance must not be shared by concurrent optimisations.
+ *
+ * @author Kevin Matthes
+ * @version 0.1.0
+ */
+public class ProgramOptimiser {
+    /**
+     * The line separator to terminate each message with.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private static String NEWLINE = System.lineSeparator();
+
+    /**
+     * The instructions emitted so far.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private int[] code;
+
+    /**
+     * The number of used elements of the instructions.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private int size;
+
+    /**
+     * Create a new instance.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    public ProgramOptimiser() {
+        this.code = new int[64];
+        this.size = 0;
+    }
+
+    private void emit(final int opcode, final int first, final int second) {
+        this.reserve(3);
+        this.code[this.size++] = opcode;
+        this.code[this.size++] = first;
+        this.code[this.size++] = second;
+    }
+
+    private void emit(final int opcode, final int first, final int second,
+            final int third) {
+        this.reserve(4);
+        this.code[this.size++] = opcode;
+        this.code[this.size++] = first;
+        this.code[this.size++] = second;
+        this.code[this.size++] = third;
+    }
+
+    /**
+     * Fold each run of consecutive output instructions into a single one
+     * writing their precomputed output. The data section of the given program
+     * is kept and the precomputed texts are appended to it.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param program
+     *            The program to optimise.
+     * @return The optimised program.
+     * @throws IllegalArgumentException
+     *             if the program contains an unknown opcode.
+     */
+    public Program optimise(final Program program)
+            throws IllegalArgumentException {
+        final IntBuffer code = program.getCode();
+        final CharSequence data = program.getData();
+        final int size = code.limit();
+        StringBuilder result = new StringBuilder(data);
+        int run = -1;
+        int statements = 0;
+
+        this.size = 0;
+
+        for (int i = 0; i < size;)
+            switch (code.get(i)) {
+                case Program.DESCRIBE :
+                    if (run < 0)
+                        run = result.length();
+
+                    Integral.literal(code.get(i + 1)).describeTo(result)
+                            .append(NEWLINE);
+                    statements++;
+                    i += 2;
+                    break;
+
+                case Program.WRITE :
+                    if (run < 0)
+                        run = result.length();
+
+                    result.append(data, code.get(i + 1),
+                            code.get(i + 1) + code.get(i + 2));
+                    statements += code.get(i + 3);
+                    i += 4;
+                    break;
+
+                case Program.ERROR :
+                    if (run >= 0)
+                        this.emit(Program.WRITE, run, result.length() - run,
+                                statements);
+
+                    run = -1;
+                    statements = 0;
+                    this.emit(Program.ERROR, code.get(i + 1), code.get(i + 2));
+                    i += 3;
+                    break;
+
+                default :
+                    throw new IllegalArgumentException(
+                            "Unknown opcode " + code.get(i) + ".");
+            }
+
+        if (run >= 0)
+            this.emit(Program.WRITE, run, result.length() - run, statements);
+
+        return new Program(IntBuffer.wrap(Arrays.copyOf(this.code, this.size)),
+                result.toString());
+    }
+
+    private void reserve(final int length) {
+        if (this.size + length > this.code.length)
+            this.code = Arrays.copyOf(this.code, this.code.length << 1);
+    }
+}
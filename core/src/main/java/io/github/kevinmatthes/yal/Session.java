@@ -0,0 +1,97 @@
+/*********************** GNU General Public License 3.0 ***********************\
+|                                                                              |
+|  Copyright (C) 2024 Kevin Matthes                                            |
+|                                                                              |
+|  This program is free software: you can redistribute it and/or modify        |
+|  it under the terms of the GNU General Public License as published by        |
+|  the Free Software Foundation, either version 3 of the License, or           |
+|  (at your option) any later version.                                         |
+|                                                                              |
+|  This program is distributed in the hope that it will be useful,             |
+|  but WITHOUT ANY WARRANTY; without even the implied warranty of              |
+|  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               |
+|  GNU General Public License for more details.                                |
+|                                                                              |
+|  You should have received a copy of the GNU General Public License           |
+|  along with this program.  If not, see <https://www.gnu.org/licenses/>.      |
+|                                                                              |
+\******************************************************************************/
+
+package io.github.kevinmatthes.yal;
+
+import java.io.UncheckedIOException;
+
+/**
+ * An interactive YAL session. Each input is lexed and executed on its own while
+ * the lexer and the interpreter live as long as the session. Line numbers keep
+ * counting across inputs.
+ *
+ * @author Kevin Matthes
+ * @version 0.1.0
+ */
+public class Session {
+    /**
+     * The interpreter executing the inputs.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private Interpreter interpreter;
+
+    /**
+     * The lexer the inputs are fed to.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private Lexer lexer;
+
+    /**
+     * Create a new session writing to stdout and stderr.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    public Session() {
+        this(System.out, System.err);
+    }
+
+    /**
+     * Create a new session writing to the given sinks.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param out
+     *            The sink for the results of the executed instructions.
+     * @param err
+     *            The sink for the tokens of failed instructions.
+     */
+    public Session(final Appendable out, final Appendable err) {
+        this.interpreter = new Interpreter(out, err);
+        this.lexer = new Lexer();
+    }
+
+    /**
+     * Execute the given line. The tokens of previous lines are dropped.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param line
+     *            The line to execute, without its line terminator.
+     * @return Whether the line could be executed successfully.
+     * @throws UncheckedIOException
+     *             if the output could not be passed to the sinks.
+     */
+    public boolean eval(final CharSequence line) throws UncheckedIOException {
+        final TokenBuffer tokens = this.lexer.getTokenBuffer();
+
+        this.lexer.feed(line);
+        this.lexer.feed("\n");
+
+        try {
+            return this.interpreter.run(tokens);
+        } finally {
+            tokens.discard();
+        }
+    }
+}
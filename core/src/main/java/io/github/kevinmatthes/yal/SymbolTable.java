@@ -0,0 +1,261 @@
+/*********************** GNU General Public License 3.0 ***********************\
+|                                                                              |
+|  Copyright (C) 2024 Kevin Matthes                                            |
+|                                                                              |
+|  This program is free software: you can redistribute it and/or modify        |
+|  it under the terms of the GNU General Public License as published by        |
+|  the Free Software Foundation, either version 3 of the License, or           |
+|  (at your option) any later version.                                         |
+|                                                                              |
+|  This program is distributed in the hope that it will be useful,             |
+|  but WITHOUT ANY WARRANTY; without even the implied warranty of              |
+|  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               |
+|  GNU General Public License for more details.                                |
+|                                                                              |
+|  You should have received a copy of the GNU General Public License           |
+|  along with this program.  If not, see <https://www.gnu.org/licenses/>.      |
+|                                                                              |
+\******************************************************************************/
+
+package io.github.kevinmatthes.yal;
+
+import java.util.Arrays;
+
+/**
+ * A table interning identifiers. Each distinct identifier is assigned a symbol
+ * id once such that later occurrences can be compared by their ids. Looking up
+ * an identifier which was interned already hashes and compares the raw
+ * characters without allocating a string.
+ *
+ * @author Kevin Matthes
+ * @version 0.1.0
+ */
+public class SymbolTable {
+    /**
+     * The characters of all interned identifiers.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private char[] chars;
+
+    /**
+     * The number of used characters.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private int used;
+
+    /**
+     * The offsets of the identifiers within the characters, indexed by their
+     * ids.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private int[] offsets;
+
+    /**
+     * The lengths of the identifiers, indexed by their ids.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private int[] lengths;
+
+    /**
+     * The hashes of the identifiers, indexed by their ids.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private int[] hashes;
+
+    /**
+     * The identifiers as strings, indexed by their ids and created on demand.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private String[] names;
+
+    /**
+     * The hash table of ids increased by one, with zero marking free slots.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private int[] table;
+
+    /**
+     * The number of interned identifiers.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private int size;
+
+    /**
+     * Retrieve the number of interned identifiers.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The number of interned identifiers.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Create a new, empty instance.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    public SymbolTable() {
+        this.chars = new char[256];
+        this.used = 0;
+        this.offsets = new int[16];
+        this.lengths = new int[16];
+        this.hashes = new int[16];
+        this.names = new String[16];
+        this.table = new int[32];
+        this.size = 0;
+    }
+
+    private boolean equals(final int id, final CharSequence text,
+            final int offset, final int length) {
+        if (this.lengths[id] != length)
+            return false;
+
+        final int start = this.offsets[id];
+
+        for (int i = 0; i < length; i++)
+            if (this.chars[start + i] != text.charAt(offset + i))
+                return false;
+
+        return true;
+    }
+
+    private int find(final CharSequence text, final int offset,
+            final int length, final int hash) {
+        final int mask = this.table.length - 1;
+
+        for (int i = hash & mask;; i = i + 1 & mask) {
+            final int id = this.table[i] - 1;
+
+            if (id < 0 || this.hashes[id] == hash
+                    && this.equals(id, text, offset, length))
+                return i;
+        }
+    }
+
+    /**
+     * Retrieve the identifier of the given symbol.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param id
+     *            The symbol's id.
+     * @return The identifier.
+     */
+    public String getName(final int id) {
+        if (this.names[id] == null)
+            this.names[id] = new String(this.chars, this.offsets[id],
+                    this.lengths[id]);
+
+        return this.names[id];
+    }
+
+    private void grow() {
+        final int capacity = this.offsets.length << 1;
+        final int mask = (this.table.length << 1) - 1;
+
+        this.offsets = Arrays.copyOf(this.offsets, capacity);
+        this.lengths = Arrays.copyOf(this.lengths, capacity);
+        this.hashes = Arrays.copyOf(this.hashes, capacity);
+        this.names = Arrays.copyOf(this.names, capacity);
+        this.table = new int[mask + 1];
+
+        for (int id = 0; id < this.size; id++) {
+            int i = this.hashes[id] & mask;
+
+            while (this.table[i] != 0)
+                i = i + 1 & mask;
+
+            this.table[i] = id + 1;
+        }
+    }
+
+    private static int hash(final CharSequence text, final int offset,
+            final int length) {
+        int result = 0;
+
+        for (int i = 0; i < length; i++)
+            result = 31 * result + text.charAt(offset + i);
+
+        return result ^ result >>> 16;
+    }
+
+    /**
+     * Retrieve the id of the given identifier, interning it if necessary.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param text
+     *            The text containing the identifier.
+     * @param offset
+     *            The identifier's offset within the text.
+     * @param length
+     *            The identifier's length.
+     * @return The symbol's id.
+     */
+    public int intern(final CharSequence text, final int offset,
+            final int length) {
+        final int hash = hash(text, offset, length);
+        int i = this.find(text, offset, length, hash);
+
+        if (this.table[i] != 0)
+            return this.table[i] - 1;
+
+        if (this.size == this.offsets.length) {
+            this.grow();
+            i = this.find(text, offset, length, hash);
+        }
+
+        if (this.used + length > this.chars.length)
+            this.chars = Arrays.copyOf(this.chars,
+                    Math.max(this.chars.length << 1, this.used + length));
+
+        for (int j = 0; j < length; j++)
+            this.chars[this.used + j] = text.charAt(offset + j);
+
+        this.offsets[this.size] = this.used;
+        this.lengths[this.size] = length;
+        this.hashes[this.size] = hash;
+        this.used += length;
+        this.table[i] = this.size + 1;
+
+        return this.size++;
+    }
+
+    /**
+     * Retrieve the id of the given identifier without interning it.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param text
+     *            The text containing the identifier.
+     * @param offset
+     *            The identifier's offset within the text.
+     * @param length
+     *            The identifier's length.
+     * @return The symbol's id or -1 if the identifier was not interned.
+     */
+    public int lookup(final CharSequence text, final int offset,
+            final int length) {
+        return this.table[this.find(text, offset, length,
+                hash(text, offset, length))] - 1;
+    }
+}
@@ -27,12 +27,36 @@ package io.github.kevinmatthes.yal;
  */
 public class Token {
     /**
-     * The recognised lexeme.
+     * The recognised lexeme, in case this token owns its characters.
      *
      * @author Kevin Matthes
      * @version 0.1.0
      */
-    private StringBuilder lexeme;
+    final private StringBuilder lexeme;
+
+    /**
+     * The characters this token's lexeme is a part of.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private CharSequence source;
+
+    /**
+     * The index of this token's first character within its source.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private int offset;
+
+    /**
+     * The number of characters this token's lexeme consists of.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private int length;
 
     /**
      * Preview what was read, so far.
@@ -42,7 +66,27 @@ public class Token {
      * @return What was read, so far.
      */
     public String getLexeme() {
-        return this.lexeme.toString();
+        return this.source.subSequence(this.offset, this.offset + this.length)
+                .toString();
+    }
+
+    /**
+     * This token's numeric value, in case it is an integer.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private int value;
+
+    /**
+     * Retrieve this token's numeric value without parsing its lexeme.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return This token's numeric value, in case it is an integer.
+     */
+    public int getValue() {
+        return this.value;
     }
 
     /**
@@ -105,6 +149,69 @@ public class Token {
     public Token(final int line, final int startColumn) {
         this.type = null;
         this.lexeme = new StringBuilder();
+        this.source = this.lexeme;
+        this.offset = 0;
+        this.length = 0;
+        this.value = 0;
+        this.line = line;
+        this.startColumn = startColumn;
+    }
+
+    /**
+     * Create a new instance referring to its lexeme within the source code
+     * instead of copying it. The lexeme is only materialised when requested.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param type
+     *            This token's type.
+     * @param source
+     *            The source code this token was found in.
+     * @param offset
+     *            The index of this token's first character within the source.
+     * @param length
+     *            The number of characters this token's lexeme consists of.
+     * @param line
+     *            The line this token was found in.
+     * @param startColumn
+     *            The column this token starts at.
+     */
+    public Token(final TokenType type, final CharSequence source,
+            final int offset, final int length, final int line,
+            final int startColumn) {
+        this(type, source, offset, length, line, startColumn, 0);
+    }
+
+    /**
+     * Create a new instance referring to its lexeme within the source code
+     * instead of copying it. The lexeme is only materialised when requested.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param type
+     *            This token's type.
+     * @param source
+     *            The source code this token was found in.
+     * @param offset
+     *            The index of this token's first character within the source.
+     * @param length
+     *            The number of characters this token's lexeme consists of.
+     * @param line
+     *            The line this token was found in.
+     * @param startColumn
+     *            The column this token starts at.
+     * @param value
+     *            This token's numeric value, in case it is an integer.
+     */
+    public Token(final TokenType type, final CharSequence source,
+            final int offset, final int length, final int line,
+            final int startColumn, final int value) {
+        this.type = type;
+        this.lexeme = null;
+        this.source = source;
+        this.offset = offset;
+        this.length = length;
+        this.value = value;
         this.line = line;
         this.startColumn = startColumn;
     }
@@ -121,15 +228,27 @@ public class Token {
     }
 
     /**
-     * Add another character to this token's lexeme.
+     * Add another character to this token's lexeme. Digits are also accumulated
+     * into this token's numeric value.
      *
      * @author Kevin Matthes
      * @version 0.1.0
      * @param character
      *            The character to append to this token's lexeme.
+     * @throws UnsupportedOperationException
+     *             if this token refers to its lexeme within the source code.
      */
-    public void push(final char character) {
+    public void push(final char character)
+            throws UnsupportedOperationException {
+        if (this.lexeme == null)
+            throw new UnsupportedOperationException(
+                    "tokens referring to the source code cannot be extended");
+
         this.lexeme.append(character);
+        this.length++;
+
+        if (character >= '0' && character <= '9')
+            this.value = this.value * 10 + character - '0';
     }
 
     /**
@@ -140,7 +259,13 @@ public class Token {
      * @return Debugging information regarding this token.
      */
     public String toString() {
-        return "[" + this.type + " " + this.lexeme + "]@" + this.line + ":"
-                + this.startColumn;
+        StringBuilder result = new StringBuilder();
+
+        result.append('[').append(this.type).append(' ');
+        result.append(this.source, this.offset, this.offset + this.length);
+        result.append("]@").append(this.line).append(':')
+                .append(this.startColumn);
+
+        return result.toString();
     }
 }
@@ -0,0 +1,607 @@
+/*********************** GNU General Public License 3.0 ***********************\
+|                                                                              |
+|  Copyright (C) 2024 Kevin Matthes                                            |
+|                                                                              |
+|  This program is free software: you can redistribute it and/or modify        |
+|  it under the terms of the GNU General Public License as published by        |
+|  the Free Software Foundation, either version 3 of the License, or           |
+|  (at your option) any later version.                                         |
+|                                                                              |
+|  This program is distributed in the hope that it will be useful,             |
+|  but WITHOUT ANY WARRANTY; without even the implied warranty of              |
+|  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               |
+|  GNU General Public License for more details.                                |
+|                                                                              |
+|  You should have received a copy of the GNU General Public License           |
+|  along with this program.  If not, see <https://www.gnu.org/licenses/>.      |
+|                                                                              |
+\******************************************************************************/
+
+package io.github.kevinmatthes.yal;
+
+import java.util.Arrays;
+
+/**
+ * A compact sequence of tokens. Instead of one object per token, the properties
+ * of all tokens are stored column-wise in primitive arrays while the lexemes
+ * are referred to within the source code.
+ *
+ * @author Kevin Matthes
+ * @version 0.1.0
+ */
+public class TokenBuffer {
+    /**
+     * All token types, indexed by their ordinal.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private static TokenType[] TYPES = TokenType.values();
+
+    /**
+     * The characters the lexemes are a part of.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private CharSequence source;
+
+    /**
+     * The characters of the lexemes, in case they are not referred to within a
+     * single source.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private StringBuilder owned;
+
+    /**
+     * The ordinals of the tokens' types.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private byte[] types;
+
+    /**
+     * The indices of the tokens' first characters within the source.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private int[] offsets;
+
+    /**
+     * The lengths of the tokens' lexemes.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private int[] lengths;
+
+    /**
+     * The numeric values of the tokens, in case they are integers.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private int[] values;
+
+    /**
+     * The lines the tokens were found in.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private int[] lines;
+
+    /**
+     * The columns the tokens start at.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private int[] columns;
+
+    /**
+     * The index of the first token still stored.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private int first;
+
+    /**
+     * Retrieve the index of the first token still stored. Tokens before this
+     * index were discarded.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The index of the first token still stored.
+     */
+    public int getFirst() {
+        return this.first;
+    }
+
+    /**
+     * The number of tokens added, so far.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private int size;
+
+    /**
+     * Retrieve the number of tokens added, so far.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The number of tokens added, so far.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * The index of the first token of the current instruction.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private int mark;
+
+    /**
+     * Retrieve the index of the first token of the current instruction.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The index of the first token of the current instruction.
+     */
+    public int getMark() {
+        return this.mark;
+    }
+
+    /**
+     * The index of the token to be visited next.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private int position;
+
+    /**
+     * Retrieve the index of the token to be visited next.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The index of the token to be visited next.
+     */
+    public int getPosition() {
+        return this.position;
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    public TokenBuffer() {
+        this.source = null;
+        this.owned = null;
+        this.types = new byte[16];
+        this.offsets = new int[16];
+        this.lengths = new int[16];
+        this.values = new int[16];
+        this.lines = new int[16];
+        this.columns = new int[16];
+        this.first = 0;
+        this.size = 0;
+        this.mark = 0;
+        this.position = 0;
+    }
+
+    /**
+     * Append another token.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param type
+     *            The token's type.
+     * @param text
+     *            The source code the token was found in.
+     * @param offset
+     *            The index of the token's first character within the text.
+     * @param length
+     *            The number of characters the token's lexeme consists of.
+     * @param line
+     *            The line the token was found in.
+     * @param column
+     *            The column the token starts at.
+     */
+    public void add(final TokenType type, final CharSequence text,
+            final int offset, final int length, final int line,
+            final int column) {
+        this.add(type, text, offset, length, line, column, 0);
+    }
+
+    /**
+     * Append another token.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param type
+     *            The token's type.
+     * @param text
+     *            The source code the token was found in.
+     * @param offset
+     *            The index of the token's first character within the text.
+     * @param length
+     *            The number of characters the token's lexeme consists of.
+     * @param line
+     *            The line the token was found in.
+     * @param column
+     *            The column the token starts at.
+     * @param value
+     *            The token's numeric value, in case it is an integer.
+     */
+    public void add(final TokenType type, final CharSequence text,
+            final int offset, final int length, final int line,
+            final int column, final int value) {
+        final int count = this.size - this.first;
+
+        if (count == this.types.length)
+            this.grow();
+
+        if (count == 0 && this.owned == null)
+            this.source = text;
+
+        if (text == this.source)
+            this.offsets[count] = offset;
+        else {
+            this.own();
+            this.offsets[count] = this.owned.length();
+            this.owned.append(text, offset, offset + length);
+        }
+
+        this.types[count] = (byte) type.ordinal();
+        this.lengths[count] = length;
+        this.values[count] = value;
+        this.lines[count] = line;
+        this.columns[count] = column;
+        this.size++;
+    }
+
+    /**
+     * Append the stored tokens of another buffer.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param other
+     *            The buffer to copy the tokens from.
+     * @param lines
+     *            The number of lines to shift the copied tokens by.
+     */
+    public void append(final TokenBuffer other, final int lines) {
+        final int count = other.size - other.first;
+        final int start = this.size - this.first;
+
+        if (other.owned != null || other.source != this.source
+                && (start != 0 || this.owned != null)) {
+            for (int i = other.first; i < other.size; i++) {
+                final int j = i - other.first;
+
+                this.add(TYPES[other.types[j]], other.source, other.offsets[j],
+                        other.lengths[j], other.lines[j] + lines,
+                        other.columns[j], other.values[j]);
+            }
+
+            return;
+        }
+
+        while (start + count > this.types.length)
+            this.grow();
+
+        this.source = other.source;
+        System.arraycopy(other.types, 0, this.types, start, count);
+        System.arraycopy(other.offsets, 0, this.offsets, start, count);
+        System.arraycopy(other.lengths, 0, this.lengths, start, count);
+        System.arraycopy(other.values, 0, this.values, start, count);
+        System.arraycopy(other.columns, 0, this.columns, start, count);
+
+        for (int i = 0; i < count; i++)
+            this.lines[start + i] = other.lines[i] + lines;
+
+        this.size += count;
+    }
+
+    /**
+     * Append the lexeme of the given token to the given buffer.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param result
+     *            The buffer to append to.
+     * @param index
+     *            The index of the token of interest.
+     * @return The given buffer.
+     */
+    public StringBuilder appendLexemeTo(final StringBuilder result,
+            final int index) {
+        final int i = index - this.first;
+        final int offset = this.offsets[i];
+
+        return result.append(this.source, offset, offset + this.lengths[i]);
+    }
+
+    /**
+     * Append a summary of the given token to the given buffer.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param result
+     *            The buffer to append to.
+     * @param index
+     *            The index of the token to summarise.
+     * @return The given buffer.
+     */
+    public StringBuilder appendTo(final StringBuilder result, final int index) {
+        final int i = index - this.first;
+        final int offset = this.offsets[i];
+
+        result.append('[').append(TYPES[this.types[i]]).append(' ');
+        result.append(this.source, offset, offset + this.lengths[i]);
+        result.append("]@").append(this.lines[i]).append(':')
+                .append(this.columns[i]);
+
+        return result;
+    }
+
+    /**
+     * Drop all tokens and detach from the source while keeping the allocated
+     * storage for reuse.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    public void clear() {
+        this.source = null;
+        this.owned = null;
+        this.first = 0;
+        this.size = 0;
+        this.mark = 0;
+        this.position = 0;
+    }
+
+    /**
+     * Drop all tokens before the current instruction in order to release the
+     * memory they occupy.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    public void discard() {
+        final int count = this.mark - this.first;
+        final int remaining = this.size - this.mark;
+
+        if (count == 0)
+            return;
+
+        System.arraycopy(this.types, count, this.types, 0, remaining);
+        System.arraycopy(this.offsets, count, this.offsets, 0, remaining);
+        System.arraycopy(this.lengths, count, this.lengths, 0, remaining);
+        System.arraycopy(this.values, count, this.values, 0, remaining);
+        System.arraycopy(this.lines, count, this.lines, 0, remaining);
+        System.arraycopy(this.columns, count, this.columns, 0, remaining);
+        this.first = this.mark;
+
+        if (this.owned != null) {
+            final int cut = remaining == 0
+                    ? this.owned.length()
+                    : this.offsets[0];
+
+            this.owned.delete(0, cut);
+
+            for (int i = 0; i < remaining; i++)
+                this.offsets[i] -= cut;
+        }
+    }
+
+    /**
+     * Retrieve the given token's column.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param index
+     *            The index of the token of interest.
+     * @return The column the token starts at.
+     */
+    public int getColumn(final int index) {
+        return this.columns[index - this.first];
+    }
+
+    /**
+     * Retrieve the length of the given token's lexeme.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param index
+     *            The index of the token of interest.
+     * @return The number of characters the lexeme consists of.
+     */
+    public int getLength(final int index) {
+        return this.lengths[index - this.first];
+    }
+
+    /**
+     * Retrieve the given token's lexeme.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param index
+     *            The index of the token of interest.
+     * @return The token's lexeme.
+     */
+    public String getLexeme(final int index) {
+        final int i = index - this.first;
+        final int offset = this.offsets[i];
+
+        return this.source.subSequence(offset, offset + this.lengths[i])
+                .toString();
+    }
+
+    /**
+     * Retrieve the given token's line.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param index
+     *            The index of the token of interest.
+     * @return The line the token was found in.
+     */
+    public int getLine(final int index) {
+        return this.lines[index - this.first];
+    }
+
+    /**
+     * Retrieve the given token as an object.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param index
+     *            The index of the token of interest.
+     * @return A token referring to its lexeme within the source code, unless
+     *         this buffer owns the lexemes.
+     */
+    public Token getToken(final int index) {
+        final int i = index - this.first;
+
+        if (this.owned != null)
+            return new Token(TYPES[this.types[i]], this.getLexeme(index), 0,
+                    this.lengths[i], this.lines[i], this.columns[i],
+                    this.values[i]);
+
+        return new Token(TYPES[this.types[i]], this.source, this.offsets[i],
+                this.lengths[i], this.lines[i], this.columns[i],
+                this.values[i]);
+    }
+
+    /**
+     * Retrieve the given token's type.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param index
+     *            The index of the token of interest.
+     * @return The token's type.
+     */
+    public TokenType getType(final int index) {
+        return TYPES[this.types[index - this.first]];
+    }
+
+    /**
+     * Retrieve the given token's numeric value.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param index
+     *            The index of the token of interest.
+     * @return The token's numeric value, in case it is an integer.
+     */
+    public int getValue(final int index) {
+        return this.values[index - this.first];
+    }
+
+    private void grow() {
+        final int capacity = this.types.length * 2;
+
+        this.types = Arrays.copyOf(this.types, capacity);
+        this.offsets = Arrays.copyOf(this.offsets, capacity);
+        this.lengths = Arrays.copyOf(this.lengths, capacity);
+        this.values = Arrays.copyOf(this.values, capacity);
+        this.lines = Arrays.copyOf(this.lines, capacity);
+        this.columns = Arrays.copyOf(this.columns, capacity);
+    }
+
+    /**
+     * Whether there are tokens left to visit.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return Whether there are tokens left to visit.
+     */
+    public boolean hasNext() {
+        while (this.position == this.size)
+            if (!this.produce())
+                return false;
+
+        return true;
+    }
+
+    /**
+     * Let the current instruction start at the token to be visited next.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    public void mark() {
+        this.mark = this.position;
+    }
+
+    /**
+     * Visit the next token.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return The index of the visited token.
+     */
+    public int next() {
+        return this.position++;
+    }
+
+    /**
+     * Copy the lexemes into a buffer owned by this instance. Any token added
+     * afterwards will have its lexeme copied, as well.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    public void own() {
+        if (this.owned == null) {
+            this.owned = new StringBuilder();
+
+            for (int i = 0; i < this.size - this.first; i++) {
+                final int offset = this.offsets[i];
+
+                this.offsets[i] = this.owned.length();
+                this.owned.append(this.source, offset,
+                        offset + this.lengths[i]);
+            }
+
+            this.source = this.owned;
+        }
+    }
+
+    /**
+     * Attempt to provide further tokens once all stored ones were visited. This
+     * buffer does not know about any further tokens, by default.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @return Whether further tokens were added.
+     */
+    protected boolean produce() {
+        return false;
+    }
+
+    /**
+     * Start visiting the stored tokens from the beginning, again.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    public void rewind() {
+        this.position = this.first;
+        this.mark = this.first;
+    }
+}
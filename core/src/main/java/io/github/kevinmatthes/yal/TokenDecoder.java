@@ -0,0 +1,238 @@
+/*********************** GNU General Public License 3.0 ***********************\
+|                                                                              |
+|  Copyright (C) 2024 Kevin Matthes                                            |
+|                                                                              |
+|  This program is free software: you can redistribute it and/or modify        |
+|  it under the terms of the GNU General Public License as published by        |
+|  the Free Software Foundation, either version 3 of the License, or           |
+|  (at your option) any later version.                                         |
+|                                                                              |
+|  This program is distributed in the hope that it will be useful,             |
+|  but WITHOUT ANY WARRANTY; without even the implied warranty of              |
+|  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               |
+|  GNU General Public License for more details.                                |
+|                                                                              |
+|  You should have received a copy of the GNU General Public License           |
+|  along with this program.  If not, see <https://www.gnu.org/licenses/>.      |
+|                                                                              |
+\******************************************************************************/
+
+package io.github.kevinmatthes.yal;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * The decoder for the binary token stream format written by
+ * {@link TokenEncoder}. The lexemes of the decoded tokens are views of the
+ * given buffer's text sections rather than copies of them.
+ *
+ * <p>
+ * The frames of a stream share one view of the buffer per text encoding, such
+ * that a token buffer can refer to the lexemes of all of them without copying.
+ * Since a token buffer refers to a single text only, it copies its lexemes as
+ * soon as a frame of the other encoding follows, or a wide frame whose text
+ * section is aligned differently.
+ *
+ * @author Kevin Matthes
+ * @version 0.1.0
+ */
+public class TokenDecoder {
+    /**
+     * The token types indexed by their ordinal.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private static TokenType[] TYPES = TokenType.values();
+
+    /**
+     * The source of the stream.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private ByteBuffer in;
+
+    /**
+     * The view of the entire buffer as ISO-8859-1 characters, once created.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private CharSequence latin;
+
+    /**
+     * The views of the entire buffer as UTF-16 characters starting at an even
+     * and an odd index, respectively, once created.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private CharSequence[] wide;
+
+    /**
+     * Whether the end of the stream was reached.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private boolean finished;
+
+    /**
+     * Create a new instance and read the stream's header.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param in
+     *            The source of the stream. Its position is advanced while
+     *            reading.
+     * @throws IOException
+     *             if the buffer does not start with a token stream of the
+     *             current format version.
+     */
+    public TokenDecoder(final ByteBuffer in) throws IOException {
+        this.in = in;
+        this.finished = false;
+        this.latin = null;
+        this.wide = new CharSequence[2];
+
+        if (in.remaining() < Integer.BYTES + 1
+                || in.getInt() != TokenEncoder.MAGIC
+                || in.get() != TokenEncoder.VERSION)
+            throw new IOException("This is no token stream.");
+    }
+
+    /**
+     * Decode the entire token stream held by the given buffer.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param in
+     *            The source of the stream.
+     * @return The decoded tokens.
+     * @throws IOException
+     *             if the stream is malformed.
+     */
+    public static TokenBuffer decode(final ByteBuffer in) throws IOException {
+        TokenDecoder decoder = new TokenDecoder(in);
+        TokenBuffer tokens = new TokenBuffer();
+
+        while (decoder.read(tokens))
+            continue;
+
+        return tokens;
+    }
+
+    private static int getVarint(final ByteBuffer frame) throws IOException {
+        int result = 0;
+
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            final byte b = frame.get();
+
+            result |= (b & 0x7F) << shift;
+
+            if (b >= 0)
+                return result;
+        }
+
+        throw new IOException("The token stream contains an invalid number.");
+    }
+
+    private static int getZigZag(final ByteBuffer frame) throws IOException {
+        final int value = getVarint(frame);
+
+        return value >>> 1 ^ -(value & 1);
+    }
+
+    /**
+     * Decode the next frame and add its tokens to the given buffer.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param tokens
+     *            The buffer to add the tokens to.
+     * @return Whether a frame was read, as opposed to the end of the stream.
+     * @throws IOException
+     *             if the stream is malformed.
+     */
+    public boolean read(final TokenBuffer tokens) throws IOException {
+        if (this.finished)
+            return false;
+
+        try {
+            final int length = this.in.getInt();
+
+            if (length == 0) {
+                this.finished = true;
+                return false;
+            }
+
+            final int start = this.in.position();
+            final ByteBuffer frame = this.in.slice(start, length);
+            this.in.position(start + length);
+
+            final int count = getVarint(frame);
+            final boolean wide = frame.get() == TokenEncoder.WIDE;
+            final int chars = getVarint(frame);
+            final int bytes = wide ? chars * Character.BYTES : chars;
+
+            if (chars < 0 || bytes < 0 || bytes > frame.remaining())
+                throw new IOException("The token stream is truncated.");
+
+            final int section = start + frame.position();
+            final CharSequence text = this.text(wide, section);
+            final int base = wide ? section >> 1 : section;
+            int line = 0;
+            int offset = 0;
+
+            frame.position(frame.position() + bytes);
+
+            for (int i = 0; i < count; i++) {
+                final int ordinal = frame.get();
+
+                if (ordinal < 0 || ordinal >= TYPES.length)
+                    throw new IOException(
+                            "The token stream contains an unknown type.");
+
+                final TokenType type = TYPES[ordinal];
+                line += getZigZag(frame);
+                final int column = getVarint(frame);
+                final int size = getVarint(frame);
+                final int value = type == TokenType.Integral
+                        ? getZigZag(frame)
+                        : 0;
+
+                if (size < 0 || size > chars - offset)
+                    throw new IOException(
+                            "The token stream contains an invalid lexeme.");
+
+                tokens.add(type, text, base + offset, size, line, column,
+                        value);
+                offset += size;
+            }
+
+            return true;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("The token stream is truncated.", e);
+        }
+    }
+
+    private CharSequence text(final boolean wide, final int section) {
+        if (!wide) {
+            if (this.latin == null)
+                this.latin = new AsciiSequence(this.in, 0, this.in.limit());
+
+            return this.latin;
+        }
+
+        final int parity = section & 1;
+
+        if (this.wide[parity] == null)
+            this.wide[parity] = this.in.slice(parity, this.in.limit() - parity)
+                    .asCharBuffer();
+
+        return this.wide[parity];
+    }
+}
@@ -0,0 +1,234 @@
+/*********************** GNU General Public License 3.0 ***********************\
+|                                                                              |
+|  Copyright (C) 2024 Kevin Matthes                                            |
+|                                                                              |
+|  This program is free software: you can redistribute it and/or modify        |
+|  it under the terms of the GNU General Public License as published by        |
+|  the Free Software Foundation, either version 3 of the License, or           |
+|  (at your option) any later version.                                         |
+|                                                                              |
+|  This program is distributed in the hope that it will be useful,             |
+|  but WITHOUT ANY WARRANTY; without even the implied warranty of              |
+|  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               |
+|  GNU General Public License for more details.                                |
+|                                                                              |
+|  You should have received a copy of the GNU General Public License           |
+|  along with this program.  If not, see <https://www.gnu.org/licenses/>.      |
+|                                                                              |
+\******************************************************************************/
+
+package io.github.kevinmatthes.yal;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * The encoder for the binary token stream format. A stream starts with a header
+ * consisting of a magic number and the format version. It is followed by
+ * frames, each of which is prefixed with its length in bytes. A frame holds the
+ * number of its tokens, the encoding and the length of its text section, the
+ * text section itself and one record per token. A record consists of the
+ * token's type, its line relative to the previous record's one, its column, the
+ * length of its lexeme within the text section and, for integral tokens, its
+ * value. All numbers within a frame are variable-length integers. The stream
+ * ends with an empty frame.
+ *
+ * @author Kevin Matthes
+ * @version 0.1.0
+ */
+public class TokenEncoder {
+    /**
+     * The magic number identifying token streams, spelling "YALT".
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final static int MAGIC = 0x59414C54;
+
+    /**
+     * The version of the token stream format.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final static int VERSION = 1;
+
+    /**
+     * The text section encoding storing one byte per character.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final static int LATIN = 0;
+
+    /**
+     * The text section encoding storing two bytes per character.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final static int WIDE = 1;
+
+    /**
+     * The destination of the stream.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private DataOutput out;
+
+    /**
+     * The lexemes of the current frame.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    final private StringBuilder text;
+
+    /**
+     * The current frame's bytes.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private byte[] frame;
+
+    /**
+     * The number of used bytes of the current frame.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    private int size;
+
+    /**
+     * Create a new instance and write the stream's header.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param out
+     *            The destination of the stream.
+     * @throws IOException
+     *             if the header could not be written.
+     */
+    public TokenEncoder(final DataOutput out) throws IOException {
+        this.out = out;
+        this.text = new StringBuilder();
+        this.frame = new byte[1024];
+        this.size = 0;
+
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+    }
+
+    /**
+     * Terminate the stream. No further tokens may be written afterwards.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @throws IOException
+     *             if the terminator could not be written.
+     */
+    public void finish() throws IOException {
+        this.out.writeInt(0);
+    }
+
+    private void put(final int b) {
+        if (this.size == this.frame.length)
+            this.frame = Arrays.copyOf(this.frame, this.frame.length << 1);
+
+        this.frame[this.size++] = (byte) b;
+    }
+
+    private void putVarint(final int value) {
+        int v = value;
+
+        while ((v & ~0x7F) != 0) {
+            this.put(v & 0x7F | 0x80);
+            v >>>= 7;
+        }
+
+        this.put(v);
+    }
+
+    /**
+     * Write all tokens of the given buffer as one frame.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param tokens
+     *            The tokens to write.
+     * @throws IOException
+     *             if the frame could not be written.
+     */
+    public void write(final TokenBuffer tokens) throws IOException {
+        this.write(tokens, tokens.getFirst(), tokens.size());
+    }
+
+    /**
+     * Write the given range of tokens as one frame.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param tokens
+     *            The buffer holding the tokens to write.
+     * @param from
+     *            The index of the first token to write.
+     * @param to
+     *            The index after the last token to write.
+     * @throws IOException
+     *             if the frame could not be written.
+     */
+    public void write(final TokenBuffer tokens, final int from, final int to)
+            throws IOException {
+        if (from >= to)
+            return;
+
+        boolean wide = false;
+        int line = 0;
+
+        this.text.setLength(0);
+
+        for (int i = from; i < to; i++)
+            tokens.appendLexemeTo(this.text, i);
+
+        for (int i = 0; i < this.text.length() && !wide; i++)
+            wide = this.text.charAt(i) > 0xFF;
+
+        this.size = 0;
+        this.putVarint(to - from);
+        this.put(wide ? WIDE : LATIN);
+        this.putVarint(this.text.length());
+
+        for (int i = 0; i < this.text.length(); i++) {
+            final char c = this.text.charAt(i);
+
+            if (wide)
+                this.put(c >>> 8);
+
+            this.put(c);
+        }
+
+        for (int i = from; i < to; i++) {
+            final TokenType type = tokens.getType(i);
+            final int delta = tokens.getLine(i) - line;
+
+            this.put(type.ordinal());
+            this.putVarint(delta << 1 ^ delta >> 31);
+            this.putVarint(tokens.getColumn(i));
+            this.putVarint(tokens.getLength(i));
+
+            if (type == TokenType.Integral) {
+                final int value = tokens.getValue(i);
+
+                this.putVarint(value << 1 ^ value >> 31);
+            }
+
+            line = tokens.getLine(i);
+        }
+
+        this.out.writeInt(this.size);
+        this.out.write(this.frame, 0, this.size);
+    }
+}
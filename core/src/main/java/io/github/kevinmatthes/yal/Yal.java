@@ -20,9 +20,28 @@
 package io.github.kevinmatthes.yal;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * The main class to start the interpreter.
@@ -31,48 +50,183 @@ import java.io.InputStreamReader;
  * @version 0.1.0
  */
 public class Yal {
-    private static void interpret(String path) {
+    private static String hash(final ByteBuffer source, final Charset charset) {
         try {
-            BufferedReader reader = new BufferedReader(new FileReader(path));
-            Interpreter interpreter = new Interpreter();
-            String line = null;
-            StringBuilder code = new StringBuilder();
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
 
-            while ((line = reader.readLine()) != null) {
-                code.append("\n" + line);
-            }
+            digest.update(charset.name().getBytes(StandardCharsets.US_ASCII));
+            digest.update((byte) 0);
+            digest.update(source);
 
-            reader.close();
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 
-            if (!interpreter.run(code.toString()))
-                System.err.println("There were errors during the execution of "
-                        + path + ".");
+    private static boolean interpret(final String path, final boolean map,
+            final Path cache, final PrintStream out, final PrintStream err) {
+        try {
+            Interpreter interpreter = new Interpreter(out, err);
+            final boolean success = cache != null
+                    ? runCached(interpreter, path, map, cache)
+                    : map
+                            ? runMapped(interpreter, path)
+                            : runRead(interpreter, path);
+
+            if (!success)
+                err.println("There were errors during the execution of " + path
+                        + ".");
+
+            return success;
         } catch (IOException e) {
-            System.err.println(path + " does not seem to exist.");
+            err.println(path + " does not seem to exist.");
+            return false;
         }
     }
 
     /**
-     * The main method.
+     * Execute the given files concurrently. The output of each file is buffered
+     * until all files before it have been reported, such that it appears in the
+     * same order as when executing the files one after another.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @param paths
+     *            The files to execute.
+     * @param map
+     *            Whether to map the files into memory instead of reading them.
+     * @param cache
+     *            The directory to store the compiled files in, if any.
+     * @param jobs
+     *            The maximum number of files to execute at once.
+     * @param out
+     *            The stream to report the results to.
+     * @param err
+     *            The stream to report any errors to.
+     * @return Whether all files could be executed successfully.
+     * @throws IOException
+     *             if the output could not be reported.
+     */
+    static boolean interpretConcurrently(final List<String> paths,
+            final boolean map, final Path cache, final int jobs,
+            final PrintStream out, final PrintStream err) throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(jobs);
+        ArrayList<Future<Boolean>> results = new ArrayList<>(paths.size());
+        ArrayList<ByteArrayOutputStream> outs = new ArrayList<>(paths.size());
+        ArrayList<ByteArrayOutputStream> errs = new ArrayList<>(paths.size());
+        boolean success = true;
+
+        for (String path : paths) {
+            final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            final ByteArrayOutputStream errors = new ByteArrayOutputStream();
+
+            outs.add(buffer);
+            errs.add(errors);
+            results.add(executor.submit(() -> interpret(path, map, cache,
+                    new PrintStream(buffer), new PrintStream(errors))));
+        }
+
+        try {
+            for (int i = 0; i < results.size(); i++) {
+                try {
+                    success &= results.get(i).get();
+                } catch (ExecutionException e) {
+                    success = false;
+                    new PrintStream(errs.get(i)).println("The execution of "
+                            + paths.get(i) + " failed: " + e.getCause() + ".");
+                }
+
+                outs.get(i).writeTo(out);
+                out.flush();
+                errs.get(i).writeTo(err);
+                err.flush();
+                outs.set(i, null);
+                errs.set(i, null);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            success = false;
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return success;
+    }
+
+    /**
+     * The main method. The process terminates with a non-zero exit status if
+     * any of the given files could not be executed successfully.
      *
      * @author Kevin Matthes
      * @version 0.1.0
      * @param args
-     *            The command line arguments.
+     *            The command line arguments. The option {@code --mmap} lets the
+     *            given files be mapped into memory instead of being read. The
+     *            option {@code --jobs N} lets up to N files be executed
+     *            concurrently while their output is still reported in order.
+     *            The option {@code --cache DIR} lets the compiled files be
+     *            stored in the given directory and reused as long as their
+     *            contents do not change. The option {@code --metrics} lets the
+     *            lexer and interpreter counters be observed via JMX.
      * @throws IOException
      *             if the input could not be read.
      */
     public static void main(final String[] args) throws IOException {
-        if (args.length == 0)
+        ArrayList<String> paths = new ArrayList<>();
+        boolean map = false;
+        Path cache = null;
+        int jobs = 1;
+
+        for (int i = 0; i < args.length; i++)
+            if (args[i].equals("--mmap"))
+                map = true;
+            else if (args[i].equals("--metrics"))
+                Metrics.register();
+            else if (args[i].equals("--cache")) {
+                if (++i == args.length) {
+                    System.err.println("--cache requires a directory.");
+                    System.exit(2);
+                }
+
+                cache = Path.of(args[i]);
+            } else if (args[i].equals("--jobs")) {
+                try {
+                    jobs = Integer.parseInt(args[++i]);
+                } catch (ArrayIndexOutOfBoundsException
+                        | NumberFormatException e) {
+                    jobs = 0;
+                }
+
+                if (jobs < 1) {
+                    System.err.println("--jobs requires a positive number.");
+                    System.exit(2);
+                }
+            } else
+                paths.add(args[i]);
+
+        if (paths.isEmpty())
             repl();
-        else
-            for (String arg : args)
-                interpret(arg);
+        else {
+            boolean success = true;
+
+            if (jobs > 1 && paths.size() > 1)
+                success = interpretConcurrently(paths, map, cache, jobs,
+                        System.out, System.err);
+            else
+                for (String path : paths)
+                    success &= interpret(path, map, cache, System.out,
+                            System.err);
+
+            if (!success)
+                System.exit(1);
+        }
     }
 
     private static void repl() throws IOException {
         InputStreamReader i = new InputStreamReader(System.in);
         BufferedReader r = new BufferedReader(i);
+        Session session = new Session();
 
         for (;;) {
             System.out.print("> ");
@@ -81,12 +235,83 @@ public class Yal {
             if (l == null || l.equals(":quit"))
                 break;
             else
-                run(l);
+                session.eval(l);
+        }
+    }
+
+    private static boolean runCached(final Interpreter interpreter,
+            final String path, final boolean map, final Path cache)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(Path.of(path))) {
+            final long size = channel.size();
+
+            if (size > Integer.MAX_VALUE)
+                return runRead(interpreter, path);
+
+            final ByteBuffer source = channel.map(FileChannel.MapMode.READ_ONLY,
+                    0, size);
+            final Charset charset = map
+                    ? StandardCharsets.ISO_8859_1
+                    : Charset.defaultCharset();
+            final Path file = cache
+                    .resolve(hash(source.duplicate(), charset) + ".yalc");
+            Program program;
+
+            try {
+                program = Program.map(file);
+            } catch (IOException e) {
+                program = new ProgramOptimiser()
+                        .optimise(new ProgramCompiler().compile(map
+                                ? new AsciiSequence(source)
+                                : charset.decode(source)));
+
+                try {
+                    store(program, cache, file);
+                } catch (IOException f) {
+                    // An unwritable cache only costs the next run some time.
+                }
+            }
+
+            return interpreter.run(program);
         }
     }
 
-    private static void run(final String code) {
-        Interpreter interpreter = new Interpreter();
-        interpreter.run(code);
+    private static boolean runMapped(final Interpreter interpreter,
+            final String path) throws IOException {
+        try (FileChannel channel = FileChannel.open(Path.of(path))) {
+            final long size = channel.size();
+
+            if (size > Integer.MAX_VALUE)
+                return runRead(interpreter, path);
+
+            return interpreter.run(new AsciiSequence(
+                    channel.map(FileChannel.MapMode.READ_ONLY, 0, size)));
+        }
+    }
+
+    private static boolean runRead(final Interpreter interpreter,
+            final String path) throws IOException {
+        try (FileReader reader = new FileReader(path)) {
+            return interpreter.run(reader);
+        }
+    }
+
+    private static void store(final Program program, final Path cache,
+            final Path file) throws IOException {
+        Files.createDirectories(cache);
+        final Path temporary = Files.createTempFile(cache, null, ".tmp");
+
+        try {
+            program.write(temporary);
+
+            try {
+                Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, file,
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
     }
 }
@@ -0,0 +1,193 @@
+/*********************** GNU General Public License 3.0 ***********************\
+|                                                                              |
+|  Copyright (C) 2024 Kevin Matthes                                            |
+|                                                                              |
+|  This program is free software: you can redistribute it and/or modify        |
+|  it under the terms of the GNU General Public License as published by        |
+|  the Free Software Foundation, either version 3 of the License, or           |
+|  (at your option) any later version.                                         |
+|                                                                              |
+|  This program is distributed in the hope that it will be useful,             |
+|  but WITHOUT ANY WARRANTY; without even the implied warranty of              |
+|  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               |
+|  GNU General Public License for more details.                                |
+|                                                                              |
+|  You should have received a copy of the GNU General Public License           |
+|  along with this program.  If not, see <https://www.gnu.org/licenses/>.      |
+|                                                                              |
+\******************************************************************************/
+
+package io.github.kevinmatthes.yal;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * The unit tests for YAL's view of bytes as characters.
+ *
+ * @author Kevin Matthes
+ * @version 0.1.0
+ */
+public class TestAsciiSequence {
+    private AsciiSequence instantiateAsciiSequence() {
+        return new AsciiSequence(ByteBuffer
+                .wrap("- describe 42".getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    /**
+     * Ensure that single characters can be retrieved.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testCharAt() {
+        Assert.assertEquals(instantiateAsciiSequence().charAt(2), 'd');
+    }
+
+    /**
+     * Ensure that delimiters are found at any position and in any byte order.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testIndexOfDelimiter() {
+        final byte[] bytes = "describe42xyzä\t".repeat(3)
+                .getBytes(StandardCharsets.ISO_8859_1);
+
+        for (ByteOrder order : new ByteOrder[]{ByteOrder.BIG_ENDIAN,
+                ByteOrder.LITTLE_ENDIAN})
+            for (int d = 0; d < bytes.length; d++)
+                for (byte delimiter : new byte[]{'\n', '\r', ' ', '-'}) {
+                    final byte[] copy = bytes.clone();
+
+                    copy[d] = delimiter;
+                    final AsciiSequence text = new AsciiSequence(
+                            ByteBuffer.wrap(copy).order(order));
+
+                    for (int from = 0; from <= d; from++)
+                        Assert.assertEquals(
+                                text.indexOfDelimiter(from, copy.length), d);
+
+                    Assert.assertEquals(text.indexOfDelimiter(0, d), d);
+                }
+    }
+
+    /**
+     * Ensure that the source code can be lexed from its bytes.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testLex() {
+        Lexer lexer = new Lexer();
+        lexer.lex(instantiateAsciiSequence());
+        Assert.assertEquals(lexer.toString(),
+                "[Instruction -]@1:1\n[Describe describe]@1:3\n[Integral 42]@1:12\n");
+    }
+
+    /**
+     * Ensure that CRLF line endings are accepted in either byte order.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testLexCrlf() {
+        final byte[] bytes = "- describe\r\n- 42xyzabc\r\n- describe 1\r\n"
+                .getBytes(StandardCharsets.ISO_8859_1);
+
+        for (ByteOrder order : new ByteOrder[]{ByteOrder.BIG_ENDIAN,
+                ByteOrder.LITTLE_ENDIAN}) {
+            Lexer lexer = new Lexer();
+            lexer.lex(new AsciiSequence(ByteBuffer.wrap(bytes).order(order)));
+            Assert.assertEquals(lexer.toString(),
+                    "[Instruction -]@1:1\n[Describe describe]@1:3\n"
+                            + "[Instruction -]@2:1\n[Error 42xyzabc]@2:3\n"
+                            + "[Instruction -]@3:1\n[Describe describe]@3:3\n"
+                            + "[Integral 1]@3:12\n");
+        }
+    }
+
+    /**
+     * Ensure that lexing bytes yields the same tokens as lexing the decoded
+     * characters.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testLexEquivalence() {
+        final String[] parts = {" ", "        ", "\n", "-", "describe", "42",
+                "99999999999", "x", "\r\n", "junk\u00e4\u00ff", "describ", "--",
+                "                         "};
+        SplittableRandom random = new SplittableRandom(0);
+
+        for (int n = 0; n < 2000; n++) {
+            StringBuilder code = new StringBuilder();
+
+            for (int i = random.nextInt(40); i > 0; i--)
+                code.append(parts[random.nextInt(parts.length)]);
+
+            Lexer bytes = new Lexer();
+            Lexer chars = new Lexer();
+
+            bytes.lex(new AsciiSequence(ByteBuffer.wrap(
+                    code.toString().getBytes(StandardCharsets.ISO_8859_1))));
+            chars.lex(code);
+            Assert.assertEquals(bytes.toString(), chars.toString());
+        }
+    }
+
+    /**
+     * Ensure that runs of spaces are skipped at any length.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testSkipSpaces() {
+        for (int length = 0; length < 40; length++) {
+            final byte[] bytes = (" ".repeat(length) + "x" + " ".repeat(9))
+                    .getBytes(StandardCharsets.ISO_8859_1);
+            final AsciiSequence text = new AsciiSequence(
+                    ByteBuffer.wrap(bytes));
+
+            Assert.assertEquals(text.skipSpaces(0, bytes.length), length);
+            Assert.assertEquals(text.skipSpaces(length + 1, bytes.length),
+                    bytes.length);
+        }
+    }
+
+    /**
+     * Ensure that parts of a view can be viewed.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testSubSequence() {
+        Assert.assertEquals(
+                instantiateAsciiSequence().subSequence(2, 10).toString(),
+                "describe");
+    }
+
+    /**
+     * Ensure that a view can be converted to a String.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testToString() {
+        Assert.assertEquals(instantiateAsciiSequence().toString(),
+                "- describe 42");
+    }
+}
@@ -0,0 +1,154 @@
+/*********************** GNU General Public License 3.0 ***********************\
+|                                                                              |
+|  Copyright (C) 2024 Kevin Matthes                                            |
+|                                                                              |
+|  This program is free software: you can redistribute it and/or modify        |
+|  it under the terms of the GNU General Public License as published by        |
+|  the Free Software Foundation, either version 3 of the License, or           |
+|  (at your option) any later version.                                         |
+|                                                                              |
+|  This program is distributed in the hope that it will be useful,             |
+|  but WITHOUT ANY WARRANTY; without even the implied warranty of              |
+|  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               |
+|  GNU General Public License for more details.                                |
+|                                                                              |
+|  You should have received a copy of the GNU General Public License           |
+|  along with this program.  If not, see <https://www.gnu.org/licenses/>.      |
+|                                                                              |
+\******************************************************************************/
+
+package io.github.kevinmatthes.yal;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * The unit tests for YAL environments.
+ *
+ * @author Kevin Matthes
+ * @version 0.1.0
+ */
+public class TestEnvironment {
+    /**
+     * Ensure that identifiers can only be defined once.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testDefineTwice() {
+        Environment environment = new Environment();
+        environment.define("x", false, 1);
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> environment.define("x", true, 2));
+    }
+
+    /**
+     * Ensure that variables are described like Integral instances.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testDescribeTo() {
+        Environment environment = new Environment();
+        final int x = environment.define("x", false, 1);
+        final int y = environment.define("y", true, -2);
+
+        Assert.assertEquals(
+                environment.describeTo(new StringBuilder(), x).toString(),
+                new Integral("x", false, 1).describe());
+        Assert.assertEquals(
+                environment.describeTo(new StringBuilder(), y).toString(),
+                new Integral("y", true, -2).describe());
+    }
+
+    /**
+     * Ensure that eternal variables cannot be modified.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testEternal() {
+        Environment environment = new Environment();
+        final int slot = environment.define("x", true, 42);
+
+        Assert.assertEquals(environment.isEternal(slot), true);
+        Assert.assertThrows(IllegalAccessException.class,
+                () -> environment.redefine(slot, 23));
+        Assert.assertEquals(environment.getValue(slot), 42);
+    }
+
+    /**
+     * Ensure that many variables can be defined.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @throws IllegalAccessException
+     *             if the source code should contain bugs.
+     */
+    @Test
+    public void testGrowth() throws IllegalAccessException {
+        Environment environment = new Environment();
+
+        for (int i = 0; i < 1000; i++)
+            Assert.assertEquals(environment.define("v" + i, i % 3 == 0, i), i);
+
+        for (int i = 0; i < 1000; i++) {
+            final int slot = environment.resolve("v" + i);
+
+            Assert.assertEquals(slot, i);
+            Assert.assertEquals(environment.getIdentifier(slot), "v" + i);
+            Assert.assertEquals(environment.isEternal(slot), i % 3 == 0);
+
+            if (!environment.isEternal(slot))
+                environment.setValue(slot, -i);
+        }
+
+        Assert.assertEquals(environment.size(), 1000);
+        Assert.assertEquals(environment.getValue(999), 999);
+        Assert.assertEquals(environment.getValue(998), -998);
+    }
+
+    /**
+     * Ensure that variables are resolved via the ids of a shared symbol table.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testResolveSymbol() {
+        SymbolTable symbols = new SymbolTable();
+        final int y = symbols.intern("y", 0, 1);
+        final int x = symbols.intern("x", 0, 1);
+        Environment environment = new Environment(symbols);
+        final int slot = environment.define(x, false, 42);
+
+        Assert.assertEquals(environment.resolve(x), slot);
+        Assert.assertEquals(environment.resolve("x"), slot);
+        Assert.assertEquals(environment.resolve(y), -1);
+        Assert.assertEquals(environment.resolve(1000), -1);
+        Assert.assertEquals(environment.resolve(-1), -1);
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> environment.define(-1, false, 0));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> environment.define(1000, false, 0));
+        Assert.assertEquals(environment.getIdentifier(slot), "x");
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> environment.define("x", true, 23));
+        Assert.assertEquals(environment.define(y, true, 23), 1);
+        Assert.assertSame(environment.getSymbols(), symbols);
+    }
+
+    /**
+     * Ensure that unknown identifiers cannot be resolved.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testResolveUnknown() {
+        Assert.assertEquals(new Environment().resolve("x"), -1);
+    }
+}
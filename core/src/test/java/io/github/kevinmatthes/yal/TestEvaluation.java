@@ -0,0 +1,45 @@
+/*********************** GNU General Public License 3.0 ***********************\
+|                                                                              |
+|  Copyright (C) 2024 Kevin Matthes                                            |
+|                                                                              |
+|  This program is free software: you can redistribute it and/or modify        |
+|  it under the terms of the GNU General Public License as published by        |
+|  the Free Software Foundation, either version 3 of the License, or           |
+|  (at your option) any later version.                                         |
+|                                                                              |
+|  This program is distributed in the hope that it will be useful,             |
+|  but WITHOUT ANY WARRANTY; without even the implied warranty of              |
+|  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               |
+|  GNU General Public License for more details.                                |
+|                                                                              |
+|  You should have received a copy of the GNU General Public License           |
+|  along with this program.  If not, see <https://www.gnu.org/licenses/>.      |
+|                                                                              |
+\******************************************************************************/
+
+package io.github.kevinmatthes.yal;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * The unit tests for YAL evaluation results.
+ *
+ * @author Kevin Matthes
+ * @version 0.1.0
+ */
+public class TestEvaluation {
+    /**
+     * Ensure that the result is preserved.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testGetters() {
+        Evaluation evaluation = new Evaluation(false, "out", "err");
+        Assert.assertEquals(evaluation.isSuccess(), false);
+        Assert.assertEquals(evaluation.getOutput(), "out");
+        Assert.assertEquals(evaluation.getErrors(), "err");
+    }
+}
@@ -0,0 +1,176 @@
+/*********************** GNU General Public License 3.0 ***********************\
+|                                                                              |
+|  Copyright (C) 2024 Kevin Matthes                                            |
+|                                                                              |
+|  This program is free software: you can redistribute it and/or modify        |
+|  it under the terms of the GNU General Public License as published by        |
+|  the Free Software Foundation, either version 3 of the License, or           |
+|  (at your option) any later version.                                         |
+|                                                                              |
+|  This program is distributed in the hope that it will be useful,             |
+|  but WITHOUT ANY WARRANTY; without even the implied warranty of              |
+|  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               |
+|  GNU General Public License for more details.                                |
+|                                                                              |
+|  You should have received a copy of the GNU General Public License           |
+|  along with this program.  If not, see <https://www.gnu.org/licenses/>.      |
+|                                                                              |
+\******************************************************************************/
+
+package io.github.kevinmatthes.yal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * The unit tests for the YAL evaluation service.
+ *
+ * @author Kevin Matthes
+ * @version 0.1.0
+ */
+public class TestEvaluator {
+    private static CharSequence hooked(final String code, final Runnable hook) {
+        return new CharSequence() {
+            @Override
+            public char charAt(final int index) {
+                if (index == 0)
+                    hook.run();
+
+                return code.charAt(index);
+            }
+
+            @Override
+            public int length() {
+                return code.length();
+            }
+
+            @Override
+            public CharSequence subSequence(final int start, final int end) {
+                return code.subSequence(start, end);
+            }
+
+            @Override
+            public String toString() {
+                return code;
+            }
+        };
+    }
+
+    /**
+     * Ensure that no snippets are accepted after closing the service.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testClose() {
+        Evaluator evaluator = new Evaluator(1, 1);
+        evaluator.close();
+        Assert.assertThrows(RejectedExecutionException.class,
+                () -> evaluator.submit("- describe 42"));
+        Assert.assertTrue(evaluator.trySubmit("- describe 42")
+                .isCompletedExceptionally());
+    }
+
+    /**
+     * Ensure that an error only fails the snippet raising it while its worker
+     * keeps evaluating the other ones.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @throws ExecutionException
+     *             if the source code should contain bugs.
+     * @throws InterruptedException
+     *             if the test was interrupted.
+     * @throws TimeoutException
+     *             if the worker stopped evaluating snippets.
+     */
+    @Test
+    public void testError()
+            throws ExecutionException, InterruptedException, TimeoutException {
+        final CountDownLatch latch = new CountDownLatch(1);
+        Evaluator evaluator = new Evaluator(1, 4);
+        final CompletableFuture<Evaluation> blocked = evaluator
+                .submit(hooked("- describe 1", () -> {
+                    try {
+                        latch.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+        final CompletableFuture<Evaluation> failing = evaluator
+                .submit(hooked("- describe 2", () -> {
+                    throw new StackOverflowError();
+                }));
+        final CompletableFuture<Evaluation> pending = evaluator
+                .submit("- describe 3");
+
+        latch.countDown();
+
+        ExecutionException e = Assert.expectThrows(ExecutionException.class,
+                () -> failing.get(10, TimeUnit.SECONDS));
+        Assert.assertTrue(e.getCause() instanceof StackOverflowError);
+
+        for (CompletableFuture<Evaluation> result : List.of(blocked, pending,
+                evaluator.submit("- describe 4")))
+            Assert.assertTrue(result.get(10, TimeUnit.SECONDS).isSuccess());
+
+        evaluator.close();
+    }
+
+    /**
+     * Ensure that invalid configurations are rejected.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testInvalidConfiguration() {
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> new Evaluator(0, 1));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> new Evaluator(1, 0));
+    }
+
+    /**
+     * Ensure that many snippets are evaluated independently of each other.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @throws ExecutionException
+     *             if the source code should contain bugs.
+     * @throws InterruptedException
+     *             if the test was interrupted.
+     */
+    @Test
+    public void testSubmit() throws ExecutionException, InterruptedException {
+        ArrayList<CompletableFuture<Evaluation>> results = new ArrayList<>();
+
+        try (Evaluator evaluator = new Evaluator(4, 16)) {
+            for (int i = 0; i < 1000; i++)
+                results.add(evaluator.submit("- describe " + i + "\n- " + i));
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            final Evaluation evaluation = results.get(i).get();
+
+            Assert.assertEquals(evaluation.isSuccess(), false);
+            Assert.assertEquals(evaluation.getOutput(),
+                    "literal (Integral): eternal " + i
+                            + System.lineSeparator());
+            Assert.assertEquals(evaluation.getErrors(),
+                    "[Instruction -]@2:1" + System.lineSeparator()
+                            + "[Integral " + i + "]@2:3"
+                            + System.lineSeparator());
+        }
+    }
+}
@@ -53,6 +53,19 @@ public class TestIntegral {
                 "'foo' (Integral): eternal 123");
     }
 
+    /**
+     * Ensure that eternal instances can be described into a buffer.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    void testEternalDescriptionTo() {
+        Assert.assertEquals(instantiateEternal()
+                .describeTo(new StringBuilder("> ")).toString(),
+                "> 'foo' (Integral): eternal 123");
+    }
+
     /**
      * Ensure that an eternal instance's identifier can be retrieved.
      *
@@ -124,6 +137,22 @@ public class TestIntegral {
                 "literal (Integral): eternal 42");
     }
 
+    /**
+     * Ensure that literals with the same value are shared.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    void testLiteralPool() {
+        Assert.assertSame(Integral.literal(42), Integral.literal(42));
+        Assert.assertSame(Integral.literal(123456), Integral.literal(123456));
+        Assert.assertSame(Integral.literal(42).describe(),
+                Integral.literal(42).describe());
+        Assert.assertEquals(Integral.literal(-123456).describe(),
+                "literal (Integral): eternal -123456");
+    }
+
     /**
      * Ensure that literals do not have any identifier.
      *
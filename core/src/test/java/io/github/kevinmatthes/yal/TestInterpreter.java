@@ -19,6 +19,11 @@
 
 package io.github.kevinmatthes.yal;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.IntBuffer;
+import java.util.stream.IntStream;
+
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -63,6 +68,75 @@ public class TestInterpreter {
         Assert.assertEquals(new Interpreter().run("- 42"), false);
     }
 
+    /**
+     * Ensure that results and failed instructions keep their order when sharing
+     * a sink.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testInvalidInstructionInterleaved() {
+        final String code = "- describe 1\n- 2\n- describe 3\n- describe 4\n- 5";
+        final String nl = System.lineSeparator();
+        final String expected = "literal (Integral): eternal 1" + nl
+                + "[Instruction -]@2:1" + nl + "[Integral 2]@2:3" + nl
+                + "literal (Integral): eternal 3" + nl
+                + "literal (Integral): eternal 4" + nl + "[Instruction -]@5:1"
+                + nl + "[Integral 5]@5:3" + nl;
+        StringBuilder interpreted = new StringBuilder();
+        StringBuilder compiled = new StringBuilder();
+
+        new Interpreter(interpreted, interpreted).run(code);
+        new Interpreter(compiled, compiled).run(new ProgramOptimiser()
+                .optimise(new ProgramCompiler().compile(code)));
+        Assert.assertEquals(interpreted.toString(), expected);
+        Assert.assertEquals(compiled.toString(), expected);
+    }
+
+    /**
+     * Ensure that integers exceeding the supported range cannot be described.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testInvalidInstructionOverflow() {
+        Assert.assertEquals(new Interpreter().run("- describe 99999999999"),
+                false);
+    }
+
+    /**
+     * Ensure that the tokens of failed instructions are passed to the given
+     * sink.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testInvalidInstructionSink() {
+        StringBuilder out = new StringBuilder();
+        StringBuilder err = new StringBuilder();
+        new Interpreter(out, err).run("- 42");
+        Assert.assertEquals(out.toString(), "");
+        Assert.assertEquals(err.toString(),
+                "[Instruction -]@1:1" + System.lineSeparator()
+                        + "[Integral 42]@1:3" + System.lineSeparator());
+    }
+
+    /**
+     * Ensure that programs with unknown opcodes are rejected.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testInvalidInstructionUnknownOpcode() {
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> new Interpreter()
+                        .run(new Program(IntBuffer.wrap(new int[]{-1}), "")));
+    }
+
     /**
      * Ensure that instructions need to start with a dash.
      *
@@ -97,6 +171,33 @@ public class TestInterpreter {
                 new Interpreter().run("- describe 42\n- describe 23"), true);
     }
 
+    /**
+     * Ensure that a single instance can serve concurrent executions.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testValidInstructionConcurrent() {
+        final Interpreter interpreter = new Interpreter();
+
+        Assert.assertTrue(IntStream.range(0, 256).parallel().allMatch(i -> {
+            StringBuilder out = new StringBuilder();
+            StringBuilder err = new StringBuilder();
+            final boolean success = interpreter
+                    .run("- describe " + i + "\n- " + i, out, err);
+
+            return !success
+                    && out.toString()
+                            .equals("literal (Integral): eternal " + i
+                                    + System.lineSeparator())
+                    && err.toString()
+                            .equals("[Instruction -]@2:1"
+                                    + System.lineSeparator() + "[Integral " + i
+                                    + "]@2:3" + System.lineSeparator());
+        }));
+    }
+
     /**
      * Ensure that empty instructions are permitted.
      *
@@ -107,4 +208,74 @@ public class TestInterpreter {
     public void testValidInstructionEmptyInstruction() {
         Assert.assertEquals(new Interpreter().run("-"), true);
     }
+
+    /**
+     * Ensure that compiled programs can be executed repeatedly.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testValidInstructionProgram() {
+        StringBuilder out = new StringBuilder();
+        final Interpreter interpreter = new Interpreter(out, out);
+        final Program program = new ProgramCompiler().compile("- describe 42");
+
+        Assert.assertEquals(interpreter.run(program), true);
+        Assert.assertEquals(interpreter.run(program), true);
+        Assert.assertEquals(out.toString(),
+                "literal (Integral): eternal 42" + System.lineSeparator()
+                        + "literal (Integral): eternal 42"
+                        + System.lineSeparator());
+    }
+
+    /**
+     * Ensure that the source code can be read from a stream.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @throws IOException
+     *             if the source code should contain bugs.
+     */
+    @Test
+    public void testValidInstructionReader() throws IOException {
+        Assert.assertEquals(
+                new Interpreter()
+                        .run(new StringReader("- describe 42\n- describe 23")),
+                true);
+    }
+
+    /**
+     * Ensure that CRLF line endings are accepted when reading from a stream.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @throws IOException
+     *             if the source code should contain bugs.
+     */
+    @Test
+    public void testValidInstructionReaderCrlf() throws IOException {
+        Assert.assertEquals(
+                new Interpreter().run(
+                        new StringReader("- describe 42\r\n- describe 23\r\n")),
+                true);
+    }
+
+    /**
+     * Ensure that the results of instructions are passed to the given sink.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testValidInstructionSink() {
+        StringBuilder out = new StringBuilder();
+        StringBuilder err = new StringBuilder();
+        new Interpreter(out, err).run("- describe 42\n- describe 23");
+        Assert.assertEquals(out.toString(),
+                "literal (Integral): eternal 42" + System.lineSeparator()
+                        + "literal (Integral): eternal 23"
+                        + System.lineSeparator());
+        Assert.assertEquals(err.toString(), "");
+    }
 }
@@ -19,7 +19,11 @@
 
 package io.github.kevinmatthes.yal;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
 
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -163,6 +167,71 @@ public class TestLexer {
                 TokenType.Error);
     }
 
+    /**
+     * Ensure that incomplete keywords are reported as errors.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testErrorTokenKeywordPrefix() {
+        Lexer lexer = new Lexer();
+        lexer.lex("describ describex");
+        Assert.assertEquals(lexer.toString(),
+                "[Error describ]@1:1\n[Describe describe]@1:9\n[Error x]@1:17\n");
+    }
+
+    /**
+     * Ensure that integers exceeding the supported range are reported as
+     * errors.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testErrorTokenOverflow() {
+        Lexer lexer = new Lexer();
+        lexer.lex("2147483647 2147483648");
+        Assert.assertEquals(lexer.getTokens().get(0).getValue(),
+                Integer.MAX_VALUE);
+        Assert.assertEquals(lexer.getTokens().get(1).getType(),
+                TokenType.Error);
+    }
+
+    /**
+     * Ensure that the source code can be processed in chunks.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testFeed() {
+        Lexer lexer = new Lexer();
+        lexer.feed("- desc");
+        lexer.feed("ribe\n ");
+        lexer.feed(" 4");
+        lexer.feed("2");
+        lexer.finish();
+        Assert.assertEquals(lexer.toString(), instantiateLexer().toString());
+    }
+
+    /**
+     * Ensure that the interned identifiers outlive resets.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testGetSymbols() {
+        Lexer lexer = new Lexer();
+        final SymbolTable symbols = lexer.getSymbols();
+        final int id = symbols.intern("x", 0, 1);
+
+        lexer.reset();
+        Assert.assertSame(lexer.getSymbols(), symbols);
+        Assert.assertEquals(lexer.getSymbols().lookup("x", 0, 1), id);
+    }
+
     /**
      * Ensure that a lexer's tokens can be retrieved.
      *
@@ -203,6 +272,24 @@ public class TestLexer {
                     tokens.get(i).toString());
     }
 
+    /**
+     * Ensure that the tokens can be visited while lexing on demand.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testIterator() {
+        Lexer lexer = new Lexer();
+        StringBuilder result = new StringBuilder();
+        lexer.stream("- describe\n  42");
+
+        for (Token token : lexer)
+            result.append(token.toString() + "\n");
+
+        Assert.assertEquals(result.toString(), instantiateLexer().toString());
+    }
+
     /**
      * Ensure that a lexer's tokens can be converted to a String.
      *
@@ -214,4 +301,132 @@ public class TestLexer {
         Assert.assertEquals(instantiateLexer().toString(),
                 "[Instruction -]@1:1\n[Describe describe]@1:3\n[Integral 42]@2:3\n");
     }
+
+    /**
+     * Ensure that an instance can be reused for another source.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testReset() {
+        Lexer lexer = new Lexer();
+        lexer.feed("- describe 4");
+        lexer.reset();
+        lexer.lex("- describe\n  42");
+        Assert.assertEquals(lexer.toString(), instantiateLexer().toString());
+    }
+
+    /**
+     * Ensure that visited tokens are discarded while lexing on demand.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testStreamDiscard() {
+        Lexer lexer = new Lexer();
+        Iterator<Token> token = lexer.iterator();
+        lexer.stream(new StringReader("- describe\n  42"));
+
+        token.next();
+        token.next();
+        Assert.assertEquals(token.next().getLexeme(), "42");
+        Assert.assertEquals(lexer.getTokenBuffer().getFirst(), 1);
+        Assert.assertEquals(token.hasNext(), false);
+    }
+
+    /**
+     * Ensure that lone carriage returns separate tokens like spaces.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @throws IOException
+     *             if the source code should contain bugs.
+     */
+    @Test
+    public void testLexCarriageReturn() throws IOException {
+        final String code = "- describe\r42\r4x";
+        final String expected = "[Instruction -]@1:1\n[Describe describe]@1:3\n"
+                + "[Integral 42]@1:12\n[Error 4x]@1:15\n";
+        Lexer lexer = new Lexer();
+
+        lexer.lex(code);
+        Assert.assertEquals(lexer.toString(), expected);
+        lexer.reset();
+        lexer.lex(new StringReader(code));
+        Assert.assertEquals(lexer.toString(), expected);
+    }
+
+    /**
+     * Ensure that CRLF line endings are accepted.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testLexCrlf() {
+        Lexer lexer = new Lexer();
+        lexer.lex("- describe\r\n  42\r\n- 4x\r\n");
+        Assert.assertEquals(lexer.toString(), instantiateLexer().toString()
+                + "[Instruction -]@3:1\n[Error 4x]@3:3\n");
+    }
+
+    /**
+     * Ensure that lexing in parallel yields the same tokens.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testLexParallel() {
+        StringBuilder code = new StringBuilder();
+        Lexer parallel = new Lexer();
+        Lexer sequential = new Lexer();
+
+        for (int i = 0; i < 100_000; i++)
+            code.append("- describe ").append(i).append(i % 7 == 0 ? "x" : "")
+                    .append(i % 5 == 0 ? " " : "\n");
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            parallel.lex(code, pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        sequential.lex(code);
+        Assert.assertEquals(parallel.toString(), sequential.toString());
+    }
+
+    /**
+     * Ensure that the source code can be read from a stream.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @throws IOException
+     *             if the source code should contain bugs.
+     */
+    @Test
+    public void testLexReader() throws IOException {
+        Lexer lexer = new Lexer();
+        lexer.lex(new StringReader("- describe\n  42"));
+        Assert.assertEquals(lexer.toString(), instantiateLexer().toString());
+    }
+
+    /**
+     * Ensure that CRLF line endings are accepted when reading from a stream.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @throws IOException
+     *             if the source code should contain bugs.
+     */
+    @Test
+    public void testLexReaderCrlf() throws IOException {
+        Lexer lexer = new Lexer();
+        lexer.lex(new StringReader("- describe\r\n  42\r\n"));
+        Assert.assertEquals(lexer.toString(), instantiateLexer().toString());
+    }
 }
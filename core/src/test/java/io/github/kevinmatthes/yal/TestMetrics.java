@@ -0,0 +1,105 @@
+/*********************** GNU General Public License 3.0 ***********************\
+|                                                                              |
+|  Copyright (C) 2024 Kevin Matthes                                            |
+|                                                                              |
+|  This program is free software: you can redistribute it and/or modify        |
+|  it under the terms of the GNU General Public License as published by        |
+|  the Free Software Foundation, either version 3 of the License, or           |
+|  (at your option) any later version.                                         |
+|                                                                              |
+|  This program is distributed in the hope that it will be useful,             |
+|  but WITHOUT ANY WARRANTY; without even the implied warranty of              |
+|  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               |
+|  GNU General Public License for more details.                                |
+|                                                                              |
+|  You should have received a copy of the GNU General Public License           |
+|  along with this program.  If not, see <https://www.gnu.org/licenses/>.      |
+|                                                                              |
+\******************************************************************************/
+
+package io.github.kevinmatthes.yal;
+
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import javax.management.ObjectName;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * The unit tests for YAL metrics.
+ *
+ * @author Kevin Matthes
+ * @version 0.1.0
+ */
+public class TestMetrics {
+    /**
+     * Ensure that lexing is counted per token type.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testLex() {
+        final Metrics metrics = Metrics.getInstance();
+        final long calls = metrics.getLexCalls();
+        final long describes = metrics.getDescribeTokens();
+        final long errors = metrics.getErrorTokens();
+        final long instructions = metrics.getInstructionTokens();
+        final long integrals = metrics.getIntegralTokens();
+
+        new Lexer().lex("- describe 1\n- describe 2\n- ?");
+
+        Assert.assertTrue(metrics.getLexCalls() > calls);
+        Assert.assertTrue(metrics.getDescribeTokens() >= describes + 2);
+        Assert.assertTrue(metrics.getErrorTokens() >= errors + 1);
+        Assert.assertTrue(metrics.getInstructionTokens() >= instructions + 3);
+        Assert.assertTrue(metrics.getIntegralTokens() >= integrals + 2);
+    }
+
+    /**
+     * Ensure that the metrics can be registered more than once.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @throws Exception
+     *             if the MBean could not be looked up.
+     */
+    @Test
+    public void testRegister() throws Exception {
+        Metrics.register();
+        Metrics.register();
+
+        Assert.assertTrue(ManagementFactory.getPlatformMBeanServer()
+                .isRegistered(new ObjectName(Metrics.NAME)));
+    }
+
+    /**
+     * Ensure that the execution of statements is counted.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testRun() {
+        final Metrics metrics = Metrics.getInstance();
+        final long runs = metrics.getRuns();
+        final long succeeded = metrics.getSucceededStatements();
+        final long failed = metrics.getFailedStatements();
+        final long characters = metrics.getOutputCharacters();
+        final String code = "- describe 1\n- describe 2\n- 3";
+        StringWriter out = new StringWriter();
+        StringWriter err = new StringWriter();
+
+        Interpreter interpreter = new Interpreter();
+
+        interpreter.run(code, out, err);
+        interpreter.run(new ProgramOptimiser()
+                .optimise(new ProgramCompiler().compile(code)), out, err);
+
+        Assert.assertTrue(metrics.getRuns() >= runs + 2);
+        Assert.assertTrue(metrics.getSucceededStatements() >= succeeded + 4);
+        Assert.assertTrue(metrics.getFailedStatements() >= failed + 2);
+        Assert.assertTrue(metrics.getOutputCharacters() >= characters
+                + out.getBuffer().length() + err.getBuffer().length());
+    }
+}
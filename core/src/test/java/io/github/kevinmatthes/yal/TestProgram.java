@@ -0,0 +1,134 @@
+/*********************** GNU General Public License 3.0 ***********************\
+|                                                                              |
+|  Copyright (C) 2024 Kevin Matthes                                            |
+|                                                                              |
+|  This program is free software: you can redistribute it and/or modify        |
+|  it under the terms of the GNU General Public License as published by        |
+|  the Free Software Foundation, either version 3 of the License, or           |
+|  (at your option) any later version.                                         |
+|                                                                              |
+|  This program is distributed in the hope that it will be useful,             |
+|  but WITHOUT ANY WARRANTY; without even the implied warranty of              |
+|  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               |
+|  GNU General Public License for more details.                                |
+|                                                                              |
+|  You should have received a copy of the GNU General Public License           |
+|  along with this program.  If not, see <https://www.gnu.org/licenses/>.      |
+|                                                                              |
+\******************************************************************************/
+
+package io.github.kevinmatthes.yal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * The unit tests for compiled YAL programs.
+ *
+ * @author Kevin Matthes
+ * @version 0.1.0
+ */
+public class TestProgram {
+    /**
+     * Ensure that the sections are preserved.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testGetters() {
+        final IntBuffer code = IntBuffer.wrap(new int[]{Program.DESCRIBE, 42});
+        Program program = new Program(code, "data");
+        Assert.assertEquals(program.getCode(), code);
+        Assert.assertEquals(program.getData(), "data");
+    }
+
+    /**
+     * Ensure that files which are no program files are rejected.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @throws IOException
+     *             if the temporary file could not be written.
+     */
+    @Test
+    public void testMapInvalid() throws IOException {
+        final Path file = Files.createTempFile("yal", ".yalc");
+
+        try {
+            Files.writeString(file, "- describe 42 and some more text");
+            Assert.assertThrows(IOException.class, () -> Program.map(file));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Ensure that corrupted program files are rejected.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @throws IOException
+     *             if the temporary file could not be written.
+     */
+    @Test
+    public void testMapTampered() throws IOException {
+        final Path file = Files.createTempFile("yal", ".yalc");
+        final Program program = new ProgramOptimiser()
+                .optimise(new ProgramCompiler().compile("- describe 42\n- 23"));
+        final int[][] patches = {{0, 7}, {1, -1}, {1, 1 << 20}, {2, 1 << 20},
+                {3, -1}, {5, Integer.MAX_VALUE}, {6, 1 << 20}};
+
+        try {
+            for (int[] patch : patches) {
+                program.write(file);
+
+                try (FileChannel channel = FileChannel.open(file,
+                        StandardOpenOption.WRITE)) {
+                    channel.write(
+                            ByteBuffer.allocate(Integer.BYTES).putInt(0,
+                                    patch[1]),
+                            4 * Integer.BYTES + patch[0] * Integer.BYTES);
+                }
+
+                Assert.assertThrows(IOException.class, () -> Program.map(file));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Ensure that a stored program can be mapped back into memory.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @throws IOException
+     *             if the temporary file could not be written.
+     */
+    @Test
+    public void testWriteMap() throws IOException {
+        final Path file = Files.createTempFile("yal", ".yalc");
+        final Program program = new ProgramCompiler()
+                .compile("- describe 42\n- 23\n- describe 2048");
+
+        try {
+            program.write(file);
+            final Program mapped = Program.map(file);
+
+            Assert.assertEquals(mapped.getCode(), program.getCode());
+            Assert.assertEquals(mapped.getData().toString(),
+                    program.getData().toString());
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
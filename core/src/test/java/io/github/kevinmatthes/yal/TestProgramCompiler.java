@@ -0,0 +1,89 @@
+/*********************** GNU General Public License 3.0 ***********************\
+|                                                                              |
+|  Copyright (C) 2024 Kevin Matthes                                            |
+|                                                                              |
+|  This program is free software: you can redistribute it and/or modify        |
+|  it under the terms of the GNU General Public License as published by        |
+|  the Free Software Foundation, either version 3 of the License, or           |
+|  (at your option) any later version.                                         |
+|                                                                              |
+|  This program is distributed in the hope that it will be useful,             |
+|  but WITHOUT ANY WARRANTY; without even the implied warranty of              |
+|  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               |
+|  GNU General Public License for more details.                                |
+|                                                                              |
+|  You should have received a copy of the GNU General Public License           |
+|  along with this program.  If not, see <https://www.gnu.org/licenses/>.      |
+|                                                                              |
+\******************************************************************************/
+
+package io.github.kevinmatthes.yal;
+
+import java.nio.IntBuffer;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * The unit tests for the YAL compiler.
+ *
+ * @author Kevin Matthes
+ * @version 0.1.0
+ */
+public class TestProgramCompiler {
+    /**
+     * Ensure that description statements are compiled into instructions.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testCompile() {
+        final Program program = new ProgramCompiler()
+                .compile("- describe 42\n- describe 23");
+        Assert.assertEquals(program.getCode(), IntBuffer
+                .wrap(new int[]{Program.DESCRIBE, 42, Program.DESCRIBE, 23}));
+        Assert.assertEquals(program.getData().length(), 0);
+    }
+
+    /**
+     * Ensure that failing statements are compiled into error reports.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testCompileError() {
+        final Program program = new ProgramCompiler().compile("- 42");
+        final String data = "[Instruction -]@1:1" + System.lineSeparator()
+                + "[Integral 42]@1:3" + System.lineSeparator();
+        Assert.assertEquals(program.getCode(),
+                IntBuffer.wrap(new int[]{Program.ERROR, 0, data.length()}));
+        Assert.assertEquals(program.getData().toString(), data);
+    }
+
+    /**
+     * Ensure that executing a program is equivalent to interpreting its source
+     * code.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testEquivalence() {
+        final String code = "- describe 42\n- 42\ndescribe 7\n- describe\n"
+                + "- describe 99999999999\n-\n- describe x\n- describe 2048";
+        StringBuilder interpretedOut = new StringBuilder();
+        StringBuilder interpretedErr = new StringBuilder();
+        StringBuilder compiledOut = new StringBuilder();
+        StringBuilder compiledErr = new StringBuilder();
+        final Interpreter interpreter = new Interpreter();
+
+        Assert.assertEquals(
+                interpreter.run(new ProgramCompiler().compile(code),
+                        compiledOut, compiledErr),
+                interpreter.run(code, interpretedOut, interpretedErr));
+        Assert.assertEquals(compiledOut.toString(), interpretedOut.toString());
+        Assert.assertEquals(compiledErr.toString(), interpretedErr.toString());
+    }
+}
@@ -0,0 +1,106 @@
+/*********************** GNU General Public License 3.0 ***********************\
+|                                                                              |
+|  Copyright (C) 2024 Kevin Matthes                                            |
+|                                                                              |
+|  This program is free software: you can redistribute it and/or modify        |
+|  it under the terms of the GNU General Public License as published by        |
+|  the Free Software Foundation, either version 3 of the License, or           |
+|  (at your option) any later version.                                         |
+|                                                                              |
+|  This program is distributed in the hope that it will be useful,             |
+|  but WITHOUT ANY WARRANTY; without even the implied warranty of              |
+|  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               |
+|  GNU General Public License for more details.                                |
+|                                                                              |
+|  You should have received a copy of the GNU General Public License           |
+|  along with this program.  If not, see <https://www.gnu.org/licenses/>.      |
+|                                                                              |
+\******************************************************************************/
+
+package io.github.kevinmatthes.yal;
+
+import java.nio.IntBuffer;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * The unit tests for the YAL program optimiser.
+ *
+ * @author Kevin Matthes
+ * @version 0.1.0
+ */
+public class TestProgramOptimiser {
+    /**
+     * Ensure that executing an optimised program is equivalent to interpreting
+     * its source code.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testEquivalence() {
+        StringBuilder code = new StringBuilder();
+        StringBuilder interpretedOut = new StringBuilder();
+        StringBuilder interpretedErr = new StringBuilder();
+        StringBuilder optimisedOut = new StringBuilder();
+        StringBuilder optimisedErr = new StringBuilder();
+        final Interpreter interpreter = new Interpreter();
+
+        for (int i = 0; i < 10_000; i++)
+            code.append(i % 97 == 0 ? "- x " : "- describe ").append(i)
+                    .append('\n');
+
+        Assert.assertEquals(
+                interpreter.run(
+                        new ProgramOptimiser()
+                                .optimise(new ProgramCompiler().compile(code)),
+                        optimisedOut, optimisedErr),
+                interpreter.run(code, interpretedOut, interpretedErr));
+        Assert.assertEquals(optimisedOut.toString(), interpretedOut.toString());
+        Assert.assertEquals(optimisedErr.toString(), interpretedErr.toString());
+    }
+
+    /**
+     * Ensure that consecutive descriptions are folded into one write.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testOptimise() {
+        final String nl = System.lineSeparator();
+        final Program program = new ProgramOptimiser()
+                .optimise(new ProgramCompiler().compile(
+                        "- describe 1\n- describe 2\n- 3\n- describe 4"));
+        final String data = program.getData().toString();
+        final IntBuffer code = program.getCode();
+
+        Assert.assertEquals(code.limit(), 11);
+        Assert.assertEquals(code.get(0), Program.WRITE);
+        Assert.assertEquals(code.get(3), 2);
+        Assert.assertEquals(code.get(4), Program.ERROR);
+        Assert.assertEquals(code.get(7), Program.WRITE);
+        Assert.assertEquals(code.get(10), 1);
+        Assert.assertEquals(
+                data.substring(code.get(1), code.get(1) + code.get(2)),
+                "literal (Integral): eternal 1" + nl
+                        + "literal (Integral): eternal 2" + nl);
+        Assert.assertEquals(
+                data.substring(code.get(8), code.get(8) + code.get(9)),
+                "literal (Integral): eternal 4" + nl);
+    }
+
+    /**
+     * Ensure that programs with unknown opcodes are rejected.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testUnknownOpcode() {
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> new ProgramOptimiser().optimise(
+                        new Program(IntBuffer.wrap(new int[]{-1}), "")));
+    }
+}
@@ -0,0 +1,78 @@
+/*********************** GNU General Public License 3.0 ***********************\
+|                                                                              |
+|  Copyright (C) 2024 Kevin Matthes                                            |
+|                                                                              |
+|  This program is free software: you can redistribute it and/or modify        |
+|  it under the terms of the GNU General Public License as published by        |
+|  the Free Software Foundation, either version 3 of the License, or           |
+|  (at your option) any later version.                                         |
+|                                                                              |
+|  This program is distributed in the hope that it will be useful,             |
+|  but WITHOUT ANY WARRANTY; without even the implied warranty of              |
+|  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               |
+|  GNU General Public License for more details.                                |
+|                                                                              |
+|  You should have received a copy of the GNU General Public License           |
+|  along with this program.  If not, see <https://www.gnu.org/licenses/>.      |
+|                                                                              |
+\******************************************************************************/
+
+package io.github.kevinmatthes.yal;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * The unit tests for interactive YAL sessions.
+ *
+ * @author Kevin Matthes
+ * @version 0.1.0
+ */
+public class TestSession {
+    /**
+     * Ensure that each input is executed on its own.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testEval() {
+        StringBuilder out = new StringBuilder();
+        StringBuilder err = new StringBuilder();
+        Session session = new Session(out, err);
+
+        Assert.assertEquals(session.eval("- describe 42"), true);
+        Assert.assertEquals(session.eval("- describe"), false);
+        Assert.assertEquals(session.eval("23"), false);
+        Assert.assertEquals(session.eval("- describe 23"), true);
+        Assert.assertEquals(out.toString(),
+                "literal (Integral): eternal 42" + System.lineSeparator()
+                        + "literal (Integral): eternal 23"
+                        + System.lineSeparator());
+        Assert.assertEquals(err.toString(),
+                "[Instruction -]@2:1" + System.lineSeparator()
+                        + "[Describe describe]@2:3" + System.lineSeparator()
+                        + "[Integral 23]@3:1" + System.lineSeparator());
+    }
+
+    /**
+     * Ensure that line numbers keep counting over long sessions.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testEvalMany() {
+        StringBuilder out = new StringBuilder();
+        Session session = new Session(out, out);
+
+        for (int i = 0; i < 100_000; i++)
+            Assert.assertEquals(session.eval("- describe " + i), true);
+
+        out.setLength(0);
+        session.eval("- 42");
+        Assert.assertEquals(out.toString(),
+                "[Instruction -]@100001:1" + System.lineSeparator()
+                        + "[Integral 42]@100001:3" + System.lineSeparator());
+    }
+}
@@ -0,0 +1,88 @@
+/*********************** GNU General Public License 3.0 ***********************\
+|                                                                              |
+|  Copyright (C) 2024 Kevin Matthes                                            |
+|                                                                              |
+|  This program is free software: you can redistribute it and/or modify        |
+|  it under the terms of the GNU General Public License as published by        |
+|  the Free Software Foundation, either version 3 of the License, or           |
+|  (at your option) any later version.                                         |
+|                                                                              |
+|  This program is distributed in the hope that it will be useful,             |
+|  but WITHOUT ANY WARRANTY; without even the implied warranty of              |
+|  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               |
+|  GNU General Public License for more details.                                |
+|                                                                              |
+|  You should have received a copy of the GNU General Public License           |
+|  along with this program.  If not, see <https://www.gnu.org/licenses/>.      |
+|                                                                              |
+\******************************************************************************/
+
+package io.github.kevinmatthes.yal;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * The unit tests for YAL symbol tables.
+ *
+ * @author Kevin Matthes
+ * @version 0.1.0
+ */
+public class TestSymbolTable {
+    /**
+     * Ensure that each identifier is interned once.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testIntern() {
+        SymbolTable symbols = new SymbolTable();
+        final String code = "x xs x";
+
+        Assert.assertEquals(symbols.intern(code, 0, 1), 0);
+        Assert.assertEquals(symbols.intern(code, 2, 2), 1);
+        Assert.assertEquals(symbols.intern(code, 5, 1), 0);
+        Assert.assertEquals(symbols.size(), 2);
+        Assert.assertEquals(symbols.getName(1), "xs");
+        Assert.assertSame(symbols.getName(0), symbols.getName(0));
+    }
+
+    /**
+     * Ensure that many identifiers can be interned.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testInternMany() {
+        SymbolTable symbols = new SymbolTable();
+
+        for (int i = 0; i < 10_000; i++) {
+            final String name = "v" + i;
+
+            Assert.assertEquals(symbols.intern(name, 0, name.length()), i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            final String name = "v" + i;
+
+            Assert.assertEquals(symbols.lookup(name, 0, name.length()), i);
+            Assert.assertEquals(symbols.getName(i), name);
+        }
+    }
+
+    /**
+     * Ensure that looking up unknown identifiers does not intern them.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testLookup() {
+        SymbolTable symbols = new SymbolTable();
+
+        Assert.assertEquals(symbols.lookup("x", 0, 1), -1);
+        Assert.assertEquals(symbols.size(), 0);
+    }
+}
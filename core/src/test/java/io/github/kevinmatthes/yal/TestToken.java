@@ -39,6 +39,10 @@ public class TestToken {
         return token;
     }
 
+    private Token instantiateSourceToken() {
+        return new Token(TokenType.Integral, "- describe 42", 11, 2, 1, 12);
+    }
+
     /**
      * Ensure that a token's lexeme can be previewed.
      *
@@ -62,6 +66,17 @@ public class TestToken {
                 TokenType.Integral);
     }
 
+    /**
+     * Ensure that a token's numeric value can be retrieved.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testGetValue() {
+        Assert.assertEquals(instantiateIntegralToken().getValue(), 42);
+    }
+
     /**
      * Ensure that it can be determined whether a token already has a type.
      *
@@ -95,4 +110,39 @@ public class TestToken {
         Assert.assertEquals(instantiateIntegralToken().toString(),
                 "[Integral 42]@1:1");
     }
+
+    /**
+     * Ensure that a token referring to the source code provides its lexeme.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testSourceGetLexeme() {
+        Assert.assertEquals(instantiateSourceToken().getLexeme(), "42");
+    }
+
+    /**
+     * Ensure that tokens referring to the source code cannot be extended.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test(expectedExceptions = {UnsupportedOperationException.class})
+    public void testSourcePush() {
+        instantiateSourceToken().push('0');
+    }
+
+    /**
+     * Ensure that tokens referring to the source code can be represented as
+     * Strings.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testSourceToString() {
+        Assert.assertEquals(instantiateSourceToken().toString(),
+                "[Integral 42]@1:12");
+    }
 }
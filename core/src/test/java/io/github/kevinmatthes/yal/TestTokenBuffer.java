@@ -0,0 +1,174 @@
+/*********************** GNU General Public License 3.0 ***********************\
+|                                                                              |
+|  Copyright (C) 2024 Kevin Matthes                                            |
+|                                                                              |
+|  This program is free software: you can redistribute it and/or modify        |
+|  it under the terms of the GNU General Public License as published by        |
+|  the Free Software Foundation, either version 3 of the License, or           |
+|  (at your option) any later version.                                         |
+|                                                                              |
+|  This program is distributed in the hope that it will be useful,             |
+|  but WITHOUT ANY WARRANTY; without even the implied warranty of              |
+|  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               |
+|  GNU General Public License for more details.                                |
+|                                                                              |
+|  You should have received a copy of the GNU General Public License           |
+|  along with this program.  If not, see <https://www.gnu.org/licenses/>.      |
+|                                                                              |
+\******************************************************************************/
+
+package io.github.kevinmatthes.yal;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * The unit tests for YAL's compact token sequence.
+ *
+ * @author Kevin Matthes
+ * @version 0.1.0
+ */
+public class TestTokenBuffer {
+    private TokenBuffer instantiateTokenBuffer() {
+        final String code = "- describe 42";
+        TokenBuffer tokens = new TokenBuffer();
+
+        tokens.add(TokenType.Instruction, code, 0, 1, 1, 1);
+        tokens.add(TokenType.Describe, code, 2, 8, 1, 3);
+        tokens.add(TokenType.Integral, code, 11, 2, 1, 12);
+
+        return tokens;
+    }
+
+    /**
+     * Ensure that lexemes can be copied without intermediate strings.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testAppendLexemeTo() {
+        TokenBuffer tokens = instantiateTokenBuffer();
+        Assert.assertEquals(tokens.appendLexemeTo(new StringBuilder(), 1)
+                .append(tokens.getLength(2)).toString(), "describe2");
+    }
+
+    /**
+     * Ensure that tokens can be summarised.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testAppendTo() {
+        Assert.assertEquals(instantiateTokenBuffer()
+                .appendTo(new StringBuilder(), 2).toString(),
+                "[Integral 42]@1:12");
+    }
+
+    /**
+     * Ensure that the tokens can be visited in order.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testCursor() {
+        TokenBuffer tokens = instantiateTokenBuffer();
+
+        Assert.assertEquals(tokens.next(), 0);
+        Assert.assertEquals(tokens.next(), 1);
+        Assert.assertEquals(tokens.hasNext(), true);
+        Assert.assertEquals(tokens.next(), 2);
+        Assert.assertEquals(tokens.hasNext(), false);
+        tokens.rewind();
+        Assert.assertEquals(tokens.getPosition(), 0);
+    }
+
+    /**
+     * Ensure that all tokens can be dropped.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testClear() {
+        TokenBuffer tokens = instantiateTokenBuffer();
+
+        tokens.next();
+        tokens.mark();
+        tokens.clear();
+
+        Assert.assertEquals(tokens.getFirst(), 0);
+        Assert.assertEquals(tokens.size(), 0);
+        Assert.assertEquals(tokens.getMark(), 0);
+        Assert.assertEquals(tokens.hasNext(), false);
+    }
+
+    /**
+     * Ensure that tokens before the current instruction can be dropped.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testDiscard() {
+        TokenBuffer tokens = instantiateTokenBuffer();
+
+        tokens.own();
+        tokens.next();
+        tokens.next();
+        tokens.mark();
+        tokens.discard();
+
+        Assert.assertEquals(tokens.getFirst(), 2);
+        Assert.assertEquals(tokens.size(), 3);
+        Assert.assertEquals(tokens.getLexeme(2), "42");
+    }
+
+    /**
+     * Ensure that tokens can be retrieved as objects.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testGetToken() {
+        Assert.assertEquals(instantiateTokenBuffer().getToken(1).toString(),
+                "[Describe describe]@1:3");
+    }
+
+    /**
+     * Ensure that the buffer can grow beyond its initial capacity.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testGrowth() {
+        TokenBuffer tokens = new TokenBuffer();
+
+        for (int i = 0; i < 100; i++)
+            tokens.add(TokenType.Instruction, "-", 0, 1, i + 1, 1);
+
+        Assert.assertEquals(tokens.size(), 100);
+        Assert.assertEquals(tokens.getLine(99), 100);
+    }
+
+    /**
+     * Ensure that tokens from different sources keep their lexemes.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testMultipleSources() {
+        TokenBuffer tokens = instantiateTokenBuffer();
+
+        tokens.add(TokenType.Integral, "- describe 23", 11, 2, 1, 12);
+
+        Assert.assertEquals(tokens.getLexeme(1), "describe");
+        Assert.assertEquals(tokens.getLexeme(2), "42");
+        Assert.assertEquals(tokens.getLexeme(3), "23");
+    }
+}
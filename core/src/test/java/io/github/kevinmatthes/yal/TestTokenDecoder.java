@@ -0,0 +1,217 @@
+/*********************** GNU General Public License 3.0 ***********************\
+|                                                                              |
+|  Copyright (C) 2024 Kevin Matthes                                            |
+|                                                                              |
+|  This program is free software: you can redistribute it and/or modify        |
+|  it under the terms of the GNU General Public License as published by        |
+|  the Free Software Foundation, either version 3 of the License, or           |
+|  (at your option) any later version.                                         |
+|                                                                              |
+|  This program is distributed in the hope that it will be useful,             |
+|  but WITHOUT ANY WARRANTY; without even the implied warranty of              |
+|  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               |
+|  GNU General Public License for more details.                                |
+|                                                                              |
+|  You should have received a copy of the GNU General Public License           |
+|  along with this program.  If not, see <https://www.gnu.org/licenses/>.      |
+|                                                                              |
+\******************************************************************************/
+
+package io.github.kevinmatthes.yal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * The unit tests for the YAL token stream decoder.
+ *
+ * @author Kevin Matthes
+ * @version 0.1.0
+ */
+public class TestTokenDecoder {
+    private ByteBuffer encode(final TokenBuffer tokens) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        TokenEncoder encoder = new TokenEncoder(new DataOutputStream(bytes));
+
+        encoder.write(tokens);
+        encoder.finish();
+
+        return ByteBuffer.wrap(bytes.toByteArray());
+    }
+
+    private String summarise(final TokenBuffer tokens) {
+        StringBuilder result = new StringBuilder();
+
+        for (int i = tokens.getFirst(); i < tokens.size(); i++)
+            tokens.appendTo(result, i).append(':').append(tokens.getValue(i))
+                    .append('\n');
+
+        return result.toString();
+    }
+
+    /**
+     * Ensure that lexed tokens survive the encoding.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @throws IOException
+     *             if the source code should contain bugs.
+     */
+    @Test
+    public void testDecode() throws IOException {
+        Lexer lexer = new Lexer();
+        lexer.lex(
+                "- describe 42\n\n  - describe -7 x 99999999999\n- 2147483647");
+        final TokenBuffer tokens = lexer.getTokenBuffer();
+
+        Assert.assertEquals(summarise(TokenDecoder.decode(encode(tokens))),
+                summarise(tokens));
+    }
+
+    /**
+     * Ensure that streams of several frames are decoded entirely.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @throws IOException
+     *             if the source code should contain bugs.
+     */
+    @Test
+    public void testDecodeFrames() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        TokenEncoder encoder = new TokenEncoder(new DataOutputStream(bytes));
+        Lexer lexer = new Lexer();
+
+        lexer.lex("- describe 42\n- € 23\n- ä\n- €€");
+        final TokenBuffer tokens = lexer.getTokenBuffer();
+
+        encoder.write(tokens, 0, 3);
+        encoder.write(tokens, 3, 6);
+        encoder.write(tokens, 6, 8);
+        encoder.write(tokens, 8, tokens.size());
+        encoder.finish();
+
+        Assert.assertEquals(
+                summarise(TokenDecoder
+                        .decode(ByteBuffer.wrap(bytes.toByteArray()))),
+                summarise(tokens));
+    }
+
+    /**
+     * Ensure that the lexemes of all frames are views of the given buffer.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @throws IOException
+     *             if the source code should contain bugs.
+     */
+    @Test
+    public void testDecodeFramesZeroCopy() throws IOException {
+        for (String code : new String[]{"- describe 42\n- 23 x",
+                "- ä 42\n- ü x"}) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            TokenEncoder encoder = new TokenEncoder(
+                    new DataOutputStream(bytes));
+            Lexer lexer = new Lexer();
+
+            lexer.lex(code);
+            final TokenBuffer tokens = lexer.getTokenBuffer();
+
+            encoder.write(tokens, 0, 3);
+            encoder.write(tokens, 3, tokens.size());
+            encoder.finish();
+
+            final byte[] stream = bytes.toByteArray();
+            final TokenBuffer decoded = TokenDecoder
+                    .decode(ByteBuffer.wrap(stream));
+
+            Assert.assertEquals(summarise(decoded), summarise(tokens));
+
+            for (int i = stream.length - 1; i >= 0; i--)
+                if (stream[i] == 'x') {
+                    stream[i] = 'y';
+                    break;
+                }
+
+            Assert.assertEquals(decoded.getLexeme(decoded.size() - 1), "y");
+        }
+    }
+
+    /**
+     * Ensure that lexemes beyond ISO-8859-1 survive the encoding.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @throws IOException
+     *             if the source code should contain bugs.
+     */
+    @Test
+    public void testDecodeWide() throws IOException {
+        Lexer lexer = new Lexer();
+        lexer.lex("- ä €");
+        final TokenBuffer tokens = TokenDecoder
+                .decode(encode(lexer.getTokenBuffer()));
+
+        Assert.assertEquals(tokens.getLexeme(1), "ä");
+        Assert.assertEquals(tokens.getLexeme(2), "€");
+    }
+
+    /**
+     * Ensure that buffers not holding a token stream are rejected.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testInvalidHeader() {
+        Assert.assertThrows(IOException.class, () -> TokenDecoder
+                .decode(ByteBuffer.wrap("- describe 42".getBytes())));
+    }
+
+    /**
+     * Ensure that lexemes exceeding the text section are rejected even if their
+     * bounds overflow.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     */
+    @Test
+    public void testInvalidLexeme() {
+        final ByteBuffer frame = ByteBuffer.wrap(new byte[]{2,
+                TokenEncoder.LATIN, 2, '4', '2',
+                (byte) TokenType.Integral.ordinal(), 2, 1, 1, 8,
+                (byte) TokenType.Error.ordinal(), 0, 2, -1, -1, -1, -1, 7});
+        final ByteBuffer stream = ByteBuffer
+                .allocate(Integer.BYTES + 1 + Integer.BYTES + frame.capacity()
+                        + Integer.BYTES)
+                .putInt(TokenEncoder.MAGIC).put((byte) TokenEncoder.VERSION)
+                .putInt(frame.capacity()).put(frame).putInt(0).flip();
+
+        Assert.assertThrows(IOException.class,
+                () -> TokenDecoder.decode(stream));
+    }
+
+    /**
+     * Ensure that incomplete streams are rejected.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @throws IOException
+     *             if the source code should contain bugs.
+     */
+    @Test
+    public void testTruncated() throws IOException {
+        Lexer lexer = new Lexer();
+        lexer.lex("- describe 42");
+        final ByteBuffer bytes = encode(lexer.getTokenBuffer());
+
+        bytes.limit(bytes.limit() - 6);
+        Assert.assertThrows(IOException.class,
+                () -> TokenDecoder.decode(bytes));
+    }
+}
@@ -0,0 +1,78 @@
+/*********************** GNU General Public License 3.0 ***********************\
+|                                                                              |
+|  Copyright (C) 2024 Kevin Matthes                                            |
+|                                                                              |
+|  This program is free software: you can redistribute it and/or modify        |
+|  it under the terms of the GNU General Public License as published by        |
+|  the Free Software Foundation, either version 3 of the License, or           |
+|  (at your option) any later version.                                         |
+|                                                                              |
+|  This program is distributed in the hope that it will be useful,             |
+|  but WITHOUT ANY WARRANTY; without even the implied warranty of              |
+|  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               |
+|  GNU General Public License for more details.                                |
+|                                                                              |
+|  You should have received a copy of the GNU General Public License           |
+|  along with this program.  If not, see <https://www.gnu.org/licenses/>.      |
+|                                                                              |
+\******************************************************************************/
+
+package io.github.kevinmatthes.yal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * The unit tests for the YAL token stream encoder.
+ *
+ * @author Kevin Matthes
+ * @version 0.1.0
+ */
+public class TestTokenEncoder {
+    /**
+     * Ensure that an empty stream consists of the header and the terminator.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @throws IOException
+     *             if the source code should contain bugs.
+     */
+    @Test
+    public void testEmptyStream() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        TokenEncoder encoder = new TokenEncoder(new DataOutputStream(bytes));
+
+        encoder.write(new TokenBuffer());
+        encoder.finish();
+
+        Assert.assertEquals(bytes.toByteArray(),
+                new byte[]{'Y', 'A', 'L', 'T', 1, 0, 0, 0, 0});
+    }
+
+    /**
+     * Ensure that integral tokens are encoded with their value.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @throws IOException
+     *             if the source code should contain bugs.
+     */
+    @Test
+    public void testFrame() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        TokenEncoder encoder = new TokenEncoder(new DataOutputStream(bytes));
+        TokenBuffer tokens = new TokenBuffer();
+
+        tokens.add(TokenType.Integral, "300", 0, 3, 1, 3, 300);
+        encoder.write(tokens);
+
+        Assert.assertEquals(bytes.toByteArray(),
+                new byte[]{'Y', 'A', 'L', 'T', 1, 0, 0, 0, 12, 1, 0, 3, '3',
+                        '0', '0', (byte) TokenType.Integral.ordinal(), 2, 3, 3,
+                        (byte) 0xD8, 4});
+    }
+}
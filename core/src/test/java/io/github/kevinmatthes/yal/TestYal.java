@@ -0,0 +1,196 @@
+/*********************** GNU General Public License 3.0 ***********************\
+|                                                                              |
+|  Copyright (C) 2024 Kevin Matthes                                            |
+|                                                                              |
+|  This program is free software: you can redistribute it and/or modify        |
+|  it under the terms of the GNU General Public License as published by        |
+|  the Free Software Foundation, either version 3 of the License, or           |
+|  (at your option) any later version.                                         |
+|                                                                              |
+|  This program is distributed in the hope that it will be useful,             |
+|  but WITHOUT ANY WARRANTY; without even the implied warranty of              |
+|  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               |
+|  GNU General Public License for more details.                                |
+|                                                                              |
+|  You should have received a copy of the GNU General Public License           |
+|  along with this program.  If not, see <https://www.gnu.org/licenses/>.      |
+|                                                                              |
+\******************************************************************************/
+
+package io.github.kevinmatthes.yal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * The unit tests for YAL's command line interface.
+ *
+ * @author Kevin Matthes
+ * @version 0.1.0
+ */
+public class TestYal {
+    /**
+     * Ensure that concurrently executed files are reported in order.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @throws IOException
+     *             if the temporary files could not be written.
+     */
+    @Test
+    public void testInterpretConcurrently() throws IOException {
+        ArrayList<String> paths = new ArrayList<>();
+        StringBuilder expected = new StringBuilder();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+        try {
+            for (int i = 0; i < 16; i++) {
+                final Path file = Files.createTempFile("yal", ".yal");
+
+                paths.add(file.toString());
+                Files.writeString(file,
+                        ("- describe " + i + "\n").repeat(1000 * (i % 3)));
+                expected.append(("literal (Integral): eternal " + i
+                        + System.lineSeparator()).repeat(1000 * (i % 3)));
+            }
+
+            Assert.assertEquals(Yal.interpretConcurrently(paths, false, null, 4,
+                    new PrintStream(out), new PrintStream(err)), true);
+            Assert.assertEquals(out.toString(), expected.toString());
+            Assert.assertEquals(err.toString(), "");
+        } finally {
+            for (String path : paths)
+                Files.delete(Path.of(path));
+        }
+    }
+
+    /**
+     * Ensure that a corrupted cache entry is replaced instead of being
+     * executed.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @throws IOException
+     *             if the temporary files could not be written.
+     */
+    @Test
+    public void testInterpretConcurrentlyCache() throws IOException {
+        final Path cache = Files.createTempDirectory("yal");
+        final Path source = Files.createTempFile("yal", ".yal");
+        final List<String> paths = List.of(source.toString());
+        final String expected = "literal (Integral): eternal 1"
+                + System.lineSeparator();
+
+        try {
+            Files.writeString(source, "- describe 1");
+            Assert.assertEquals(
+                    Yal.interpretConcurrently(paths, false, cache, 1,
+                            new PrintStream(new ByteArrayOutputStream()),
+                            new PrintStream(new ByteArrayOutputStream())),
+                    true);
+
+            final Path entry;
+
+            try (Stream<Path> entries = Files.list(cache)) {
+                entry = entries.findFirst().orElseThrow();
+            }
+
+            try (FileChannel channel = FileChannel.open(entry,
+                    StandardOpenOption.WRITE)) {
+                channel.write(
+                        ByteBuffer.allocate(Integer.BYTES).putInt(0, 1 << 20),
+                        5 * Integer.BYTES);
+            }
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+            Assert.assertEquals(Yal.interpretConcurrently(paths, false, cache,
+                    1, new PrintStream(out), new PrintStream(err)), true);
+            Assert.assertEquals(out.toString(), expected);
+            Assert.assertEquals(err.toString(), "");
+            Assert.assertEquals(Program.map(entry).getCode().get(1), 0);
+        } finally {
+            try (Stream<Path> entries = Files.list(cache)) {
+                for (Path entry : entries.toList())
+                    Files.delete(entry);
+            }
+
+            Files.delete(cache);
+            Files.delete(source);
+        }
+    }
+
+    /**
+     * Ensure that a single unsuccessful file fails the whole execution.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @throws IOException
+     *             if the temporary files could not be written.
+     */
+    @Test
+    public void testInterpretConcurrentlyErrors() throws IOException {
+        final Path valid = Files.createTempFile("yal", ".yal");
+        final Path invalid = Files.createTempFile("yal", ".yal");
+        final Path missing = invalid
+                .resolveSibling(invalid.getFileName() + ".missing");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+        try {
+            Files.writeString(valid, "- describe 1");
+            Files.writeString(invalid, "- 2");
+            Assert.assertEquals(Yal.interpretConcurrently(
+                    Arrays.asList(valid.toString(), invalid.toString(),
+                            missing.toString()),
+                    true, null, 2, new PrintStream(out), new PrintStream(err)),
+                    false);
+            Assert.assertEquals(out.toString(),
+                    "literal (Integral): eternal 1" + System.lineSeparator());
+            Assert.assertTrue(err.toString().contains(
+                    "There were errors during the execution of " + invalid));
+            Assert.assertTrue(err.toString().endsWith(missing
+                    + " does not seem to exist." + System.lineSeparator()));
+        } finally {
+            Files.delete(valid);
+            Files.delete(invalid);
+        }
+    }
+
+    /**
+     * Ensure that a file whose execution is aborted is reported as failed.
+     *
+     * @author Kevin Matthes
+     * @version 0.1.0
+     * @throws IOException
+     *             if the output could not be reported.
+     */
+    @Test
+    public void testInterpretConcurrentlyFailure() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+        Assert.assertEquals(Yal.interpretConcurrently(Arrays.asList("", null),
+                false, null, 2, new PrintStream(out), new PrintStream(err)),
+                false);
+        Assert.assertTrue(err.toString()
+                .startsWith(" does not seem to exist." + System.lineSeparator()
+                        + "The execution of null failed: "
+                        + NullPointerException.class.getName()));
+    }
+}